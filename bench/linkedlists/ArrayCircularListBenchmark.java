@@ -0,0 +1,111 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link ArrayCircularList} against the node-based
+ * {@link CircularlyLinkedList} for building, rotating queue use and
+ * traversal. Run with <code>-prof gc</code> for allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArrayCircularListBenchmark {
+
+  /** Number of elements in the lists under test */
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  /** Pre-boxed elements, so that boxing is not part of the measurement */
+  private Integer[] values;
+
+  private ArrayCircularList<Integer> array;
+
+  private CircularlyLinkedList<Integer> linked;
+
+  @Setup
+  public void setUp() {
+    values = new Integer[size];
+    for (int i = 0; i < size; i++)
+      values[i] = i;
+    array = new ArrayCircularList<>();
+    linked = new CircularlyLinkedList<>();
+    for (Integer v : values) {
+      array.addLast(v);
+      linked.addLast(v);
+    }
+  }
+
+  @Benchmark
+  public ArrayCircularList<Integer> arrayAddLast() {
+    ArrayCircularList<Integer> result = new ArrayCircularList<>();
+    for (Integer v : values)
+      result.addLast(v);
+    return result;
+  }
+
+  @Benchmark
+  public CircularlyLinkedList<Integer> linkedAddLast() {
+    CircularlyLinkedList<Integer> result = new CircularlyLinkedList<>();
+    for (Integer v : values)
+      result.addLast(v);
+    return result;
+  }
+
+  /** Removes from the front while keeping the list at a steady size. */
+  @Benchmark
+  public Integer arrayRemoveFirstAddLast() {
+    Integer e = array.removeFirst();
+    array.addLast(e);
+    return e;
+  }
+
+  /** Removes from the front while keeping the list at a steady size. */
+  @Benchmark
+  public Integer linkedRemoveFirstAddLast() {
+    Integer e = linked.removeFirst();
+    linked.addLast(e);
+    return e;
+  }
+
+  @Benchmark
+  public Integer arrayRotate() {
+    array.rotate();
+    return array.first();
+  }
+
+  @Benchmark
+  public Integer linkedRotate() {
+    linked.rotate();
+    return linked.first();
+  }
+
+  @Benchmark
+  public long arrayForEach() {
+    long[] sum = {0};
+    array.forEach(v -> sum[0] += v);
+    return sum[0];
+  }
+
+  @Benchmark
+  public long linkedForEach() {
+    long[] sum = {0};
+    linked.forEach(v -> sum[0] += v);
+    return sum[0];
+  }
+}
@@ -0,0 +1,93 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the public operations of {@link CircularlyLinkedList}.
+ * Run with <code>-prof gc</code> for allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CircularlyLinkedListBenchmark {
+
+  /** Number of elements in the list under test */
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  /** Pre-boxed elements, so that boxing is not part of the measurement */
+  private Integer[] values;
+
+  /** The list under test */
+  private CircularlyLinkedList<Integer> list;
+
+  @Setup
+  public void setUp() {
+    values = new Integer[size];
+    for (int i = 0; i < size; i++)
+      values[i] = i;
+    list = new CircularlyLinkedList<>();
+    for (Integer v : values)
+      list.addLast(v);
+  }
+
+  /** Builds a list of the given size at the front. */
+  @Benchmark
+  public CircularlyLinkedList<Integer> addFirst() {
+    CircularlyLinkedList<Integer> result = new CircularlyLinkedList<>();
+    for (Integer v : values)
+      result.addFirst(v);
+    return result;
+  }
+
+  /** Builds a list of the given size at the back. */
+  @Benchmark
+  public CircularlyLinkedList<Integer> addLast() {
+    CircularlyLinkedList<Integer> result = new CircularlyLinkedList<>();
+    for (Integer v : values)
+      result.addLast(v);
+    return result;
+  }
+
+  /** Removes from the front while keeping the list at a steady size. */
+  @Benchmark
+  public Integer removeFirst() {
+    Integer e = list.removeFirst();
+    list.addLast(e);
+    return e;
+  }
+
+  @Benchmark
+  public Integer rotate() {
+    list.rotate();
+    return list.first();
+  }
+
+  @Benchmark
+  public CircularlyLinkedList<Integer> cloneList() {
+    return list.cloneList();
+  }
+
+  /** Clones and then mutates the clone, paying for the deferred copy. */
+  @Benchmark
+  public CircularlyLinkedList<Integer> cloneListThenMutate() {
+    CircularlyLinkedList<Integer> clone = list.cloneList();
+    clone.addFirst(clone.removeFirst());
+    return clone;
+  }
+}
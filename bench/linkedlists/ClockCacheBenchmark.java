@@ -0,0 +1,137 @@
+package linkedlists;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput and hit ratio of {@link ClockCache} against {@link LruCache}
+ * on a skewed get-or-put workload, where a few keys are hot and most are
+ * cold. The <code>hits</code> and <code>misses</code> counters give the
+ * hit ratio of each policy. The read benchmarks run in four threads on a
+ * full cache; the LRU cache, which relinks on every hit, is guarded by
+ * its own monitor. Run with <code>-prof gc</code> for allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ClockCacheBenchmark {
+
+  /** Number of entries the caches hold */
+  @Param({"1000", "100000"})
+  private int capacity;
+
+  /** Number of precomputed keys cycled through by the workload */
+  private static final int KEYS = 1 << 16;
+
+  /** Pre-boxed keys, skewed towards small values, from 8 times the capacity */
+  private Integer[] keys;
+
+  private ClockCache<Integer, Integer> clock;
+
+  private LruCache<Integer, Integer> lru;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    keys = new Integer[KEYS];
+    for (int i = 0; i < KEYS; i++) {
+      double u = random.nextDouble();
+      keys[i] = (int) (8.0 * capacity * u * u * u);
+    }
+    clock = new ClockCache<>(capacity);
+    lru = new LruCache<>(capacity);
+    for (int i = 0; i < capacity; i++) {
+      clock.put(i, i);
+      lru.put(i, i);
+    }
+  }
+
+  /** Position of each thread in the keys. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+
+    @Setup
+    public void setUp() {
+      next = (int) Thread.currentThread().getId() * 7919;
+    }
+
+    Integer nextKey(Integer[] keys) {
+      next = (next + 1) & (KEYS - 1);
+      return keys[next];
+    }
+  }
+
+  /** Hits and misses of a benchmark, reported next to its throughput. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Ratio {
+    public long hits;
+    public long misses;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      hits = 0;
+      misses = 0;
+    }
+  }
+
+  @Benchmark
+  public Integer clockGetOrPut(Cursor cursor, Ratio ratio) {
+    Integer k = cursor.nextKey(keys);
+    Integer v = clock.get(k);
+    if (v != null) {
+      ratio.hits++;
+    } else {
+      ratio.misses++;
+      clock.put(k, v = k);
+    }
+    return v;
+  }
+
+  @Benchmark
+  public Integer lruGetOrPut(Cursor cursor, Ratio ratio) {
+    Integer k = cursor.nextKey(keys);
+    Integer v = lru.get(k);
+    if (v != null) {
+      ratio.hits++;
+    } else {
+      ratio.misses++;
+      lru.put(k, v = k);
+    }
+    return v;
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Integer clockConcurrentGet(Cursor cursor) {
+    return clock.get(cursor.nextKey(keys));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Integer lruConcurrentGet(Cursor cursor) {
+    Integer k = cursor.nextKey(keys);
+    synchronized (lru) {
+      return lru.get(k);
+    }
+  }
+}
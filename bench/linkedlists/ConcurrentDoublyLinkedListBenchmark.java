@@ -0,0 +1,86 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Work-deque throughput of {@link ConcurrentDoublyLinkedList} against a
+ * {@link DoublyLinkedList} behind a single lock: one thread adds at the
+ * front while another removes from the back. Scale with <code>-tg</code>.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentDoublyLinkedListBenchmark {
+
+  /** Element added by the producers */
+  private static final Integer ELEMENT = 42;
+
+  /** Number of elements the deques hold before measurement begins */
+  @Param({"0", "1024"})
+  private int initialSize;
+
+  /** The deque with one lock per end */
+  private ConcurrentDoublyLinkedList<Integer> concurrent;
+
+  /** The single-threaded list, guarded by its own monitor */
+  private DoublyLinkedList<Integer> locked;
+
+  @Setup
+  public void setUp() {
+    concurrent = new ConcurrentDoublyLinkedList<>();
+    locked = new DoublyLinkedList<>();
+    for (int i = 0; i < initialSize; i++) {
+      concurrent.addLast(ELEMENT);
+      locked.addLast(ELEMENT);
+    }
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(1)
+  public void concurrentAddFirst() {
+    concurrent.addFirst(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(1)
+  public Integer concurrentRemoveLast() {
+    return concurrent.removeLast();
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  public void lockedAddFirst() {
+    synchronized (locked) {
+      locked.addFirst(ELEMENT);
+    }
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  public Integer lockedRemoveLast() {
+    synchronized (locked) {
+      return locked.removeLast();
+    }
+  }
+}
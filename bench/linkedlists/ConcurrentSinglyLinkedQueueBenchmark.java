@@ -0,0 +1,78 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Producer/consumer throughput of {@link ConcurrentSinglyLinkedQueue}
+ * against a {@link SinglyLinkedList} behind a global lock. Scale the
+ * number of producer and consumer threads with <code>-tg</code>, e.g.
+ * <code>-tg 1,1</code>, <code>-tg 4,4</code> up to <code>-tg 16,16</code>.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentSinglyLinkedQueueBenchmark {
+
+  /** Element offered by the producers */
+  private static final Integer ELEMENT = 42;
+
+  /** The non-blocking queue */
+  private ConcurrentSinglyLinkedQueue<Integer> queue;
+
+  /** The single-threaded list, guarded by its own monitor */
+  private SinglyLinkedList<Integer> locked;
+
+  @Setup
+  public void setUp() {
+    queue = new ConcurrentSinglyLinkedQueue<>();
+    locked = new SinglyLinkedList<>();
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(1)
+  public void concurrentAddLast() {
+    queue.addLast(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(1)
+  public Integer concurrentRemoveFirst() {
+    return queue.removeFirst();
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  public void lockedAddLast() {
+    synchronized (locked) {
+      locked.addLast(ELEMENT);
+    }
+  }
+
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  public Integer lockedRemoveFirst() {
+    synchronized (locked) {
+      return locked.removeFirst();
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the public operations of {@link DoublyLinkedList}.
+ * Run with <code>-prof gc</code> for allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DoublyLinkedListBenchmark {
+
+  /** Number of elements in each list under test */
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  /** Pre-boxed elements, so that boxing is not part of the measurement */
+  private Integer[] values;
+
+  /** The list under test */
+  private DoublyLinkedList<Integer> list;
+
+  /** A second list of the same size, used for concatenation */
+  private DoublyLinkedList<Integer> other;
+
+  /** Position of an element in the middle of the list under test */
+  private Position<Integer> middle;
+
+  @Setup
+  public void setUp() {
+    values = new Integer[size];
+    for (int i = 0; i < size; i++)
+      values[i] = i;
+    list = new DoublyLinkedList<>();
+    other = new DoublyLinkedList<>();
+    for (Integer v : values) {
+      Position<Integer> p = list.addLast(v);
+      if (v == size / 2)
+        middle = p;
+      other.addLast(v);
+    }
+  }
+
+  /** Builds a list of the given size at the front. */
+  @Benchmark
+  public DoublyLinkedList<Integer> addFirst() {
+    DoublyLinkedList<Integer> result = new DoublyLinkedList<>();
+    for (Integer v : values)
+      result.addFirst(v);
+    return result;
+  }
+
+  /** Builds a list of the given size at the back. */
+  @Benchmark
+  public DoublyLinkedList<Integer> addLast() {
+    DoublyLinkedList<Integer> result = new DoublyLinkedList<>();
+    for (Integer v : values)
+      result.addLast(v);
+    return result;
+  }
+
+  /** Removes from the front while keeping the list at a steady size. */
+  @Benchmark
+  public Integer removeFirst() {
+    Integer e = list.removeFirst();
+    list.addLast(e);
+    return e;
+  }
+
+  /** Removes from the back while keeping the list at a steady size. */
+  @Benchmark
+  public Integer removeLast() {
+    Integer e = list.removeLast();
+    list.addFirst(e);
+    return e;
+  }
+
+  /** Removes and reinserts an element in the middle through its position. */
+  @Benchmark
+  public Integer removeAtPosition() {
+    Position<Integer> neighbor = list.before(middle);
+    Integer e = list.remove(middle);
+    middle = list.addAfter(neighbor, e);
+    return e;
+  }
+
+  @Benchmark
+  public DoublyLinkedList<Integer> concatenateLists() {
+    return DoublyLinkedList.concatenateLists(list, other);
+  }
+
+  /** Splices all nodes back and forth between the two lists. */
+  @Benchmark
+  public DoublyLinkedList<Integer> concatenateInPlace() {
+    if (other.isEmpty())
+      return DoublyLinkedList.concatenateInPlace(other, list);
+    return DoublyLinkedList.concatenateInPlace(list, other);
+  }
+}
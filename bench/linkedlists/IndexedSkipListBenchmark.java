@@ -0,0 +1,114 @@
+package linkedlists;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of positional access on {@link IndexedSkipList} at random
+ * indices, against {@link ArrayList}, whose get is a single load but
+ * whose insertion and removal move every later element, and of the O(1)
+ * operations at the ends. Each benchmark leaves the size unchanged. Run
+ * with <code>-prof gc</code> for allocation rates; the 100M case needs
+ * the large heap below.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+public class IndexedSkipListBenchmark {
+
+  /** Number of random indices cycled through */
+  private static final int INDICES = 1 << 16;
+
+  /** Number of elements in the lists under test */
+  @Param({"1000000", "100000000"})
+  private int size;
+
+  /** Pre-boxed elements, shared by many positions to keep the heap small */
+  private Integer[] values;
+
+  /** Random indices in [0, size) */
+  private int[] indices;
+
+  private int next = 0;
+
+  private IndexedSkipList<Integer> skip;
+
+  private ArrayList<Integer> array;
+
+  @Setup
+  public void setUp() {
+    values = new Integer[1024];
+    for (int i = 0; i < values.length; i++)
+      values[i] = i;
+    Random random = new Random(42);
+    indices = new int[INDICES];
+    for (int i = 0; i < INDICES; i++)
+      indices[i] = random.nextInt(size);
+    skip = new IndexedSkipList<>();
+    array = new ArrayList<>(size + 1);
+    for (int i = 0; i < size; i++) {
+      skip.addLast(values[i & 1023]);
+      array.add(values[i & 1023]);
+    }
+  }
+
+  private int nextIndex() { return indices[next++ & (INDICES - 1)]; }
+
+  @Benchmark
+  public Integer skipGet() { return skip.get(nextIndex()); }
+
+  @Benchmark
+  public Integer arrayGet() { return array.get(nextIndex()); }
+
+  @Benchmark
+  public Integer skipSet() {
+    int i = nextIndex();
+    return skip.set(i, values[i & 1023]);
+  }
+
+  /** Inserts at a random index and removes the element again. */
+  @Benchmark
+  public Integer skipInsertAtRemoveAt() {
+    int i = nextIndex();
+    skip.insertAt(i, values[i & 1023]);
+    return skip.removeAt(i);
+  }
+
+  /** Inserts at a random index and removes the element again. */
+  @Benchmark
+  public Integer arrayInsertAtRemoveAt() {
+    int i = nextIndex();
+    array.add(i, values[i & 1023]);
+    return array.remove(i);
+  }
+
+  /** Removes from the front while keeping the list at a steady size. */
+  @Benchmark
+  public Integer skipRemoveFirstAddLast() {
+    Integer e = skip.removeFirst();
+    skip.addLast(e);
+    return e;
+  }
+
+  @Benchmark
+  public Integer skipAddFirstRemoveFirst() {
+    skip.addFirst(values[0]);
+    return skip.removeFirst();
+  }
+}
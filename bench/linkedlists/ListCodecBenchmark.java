@@ -0,0 +1,76 @@
+package linkedlists;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to restore a list from a {@link ListCodec} stream held in memory,
+ * compared with reading the same values and calling addLast for each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListCodecBenchmark {
+
+  /** Number of elements in the stored list */
+  @Param({"1000", "10000000"})
+  private int size;
+
+  /** The codec under test */
+  private final ListCodec<Integer> codec = new ListCodec<>(ListCodec.INTEGERS);
+
+  /** The encoded list */
+  private byte[] bytes;
+
+  @Setup
+  public void setUp() throws IOException {
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    for (int i = 0; i < size; i++)
+      list.addLast(i);
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(buffer);
+    codec.write(list, out);
+    out.flush();
+    bytes = buffer.toByteArray();
+  }
+
+  @Benchmark
+  public DoublyLinkedList<Integer> restoreDoubly() throws IOException {
+    return codec.readDoubly(new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+
+  @Benchmark
+  public SinglyLinkedList<Integer> restoreSingly() throws IOException {
+    return codec.readSingly(new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+
+  /** The element-by-element rebuild that the codec replaces. */
+  @Benchmark
+  public DoublyLinkedList<Integer> rebuildWithAddLast() throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+    in.skipBytes(9);                         // magic, version and count
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    for (int i = 0; i < size; i++)
+      list.addLast(in.readInt());
+    return list;
+  }
+}
@@ -0,0 +1,88 @@
+package linkedlists;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to sort shuffled lists in place with the bottom-up merge sorts of
+ * {@link SinglyLinkedList} and {@link DoublyLinkedList}, against draining
+ * a list into an array, sorting the array and rebuilding the list. The
+ * lists are rebuilt in shuffled order before each invocation. Run with
+ * <code>-prof gc</code> to compare the memory each approach allocates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListSortBenchmark {
+
+  /** Number of elements in the lists under test */
+  @Param({"1000", "100000", "1000000"})
+  private int size;
+
+  /** Pre-boxed elements in shuffled order */
+  private Integer[] values;
+
+  private SinglyLinkedList<Integer> singly;
+
+  private DoublyLinkedList<Integer> doubly;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    values = new Integer[size];
+    for (int i = 0; i < size; i++)
+      values[i] = random.nextInt();
+  }
+
+  @Setup(Level.Invocation)
+  public void shuffle() {
+    singly = new SinglyLinkedList<>();
+    doubly = new DoublyLinkedList<>();
+    for (Integer v : values) {
+      singly.addLast(v);
+      doubly.addLast(v);
+    }
+  }
+
+  @Benchmark
+  public SinglyLinkedList<Integer> singlyMergeSort() {
+    singly.sort(Comparator.naturalOrder());
+    return singly;
+  }
+
+  @Benchmark
+  public DoublyLinkedList<Integer> doublyMergeSort() {
+    doubly.sort(Comparator.naturalOrder());
+    return doubly;
+  }
+
+  /** The array round-trip the in-place sort replaces. */
+  @Benchmark
+  public DoublyLinkedList<Integer> doublyArrayRoundTrip() {
+    Integer[] array = new Integer[doubly.size()];
+    for (int j = 0; j < array.length; j++)
+      array[j] = doubly.removeFirst();
+    Arrays.sort(array, Comparator.naturalOrder());
+    for (Integer v : array)
+      doubly.addLast(v);
+    return doubly;
+  }
+}
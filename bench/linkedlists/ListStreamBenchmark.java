@@ -0,0 +1,82 @@
+package linkedlists;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of a sum over sequential and parallel streams of the three
+ * lists, against copying the list into an {@link ArrayList} first to get
+ * a parallel stream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListStreamBenchmark {
+
+  /** Number of elements in the lists under test */
+  @Param({"1000", "100000", "10000000"})
+  private int size;
+
+  private SinglyLinkedList<Integer> singly;
+
+  private DoublyLinkedList<Integer> doubly;
+
+  private CircularlyLinkedList<Integer> circularly;
+
+  @Setup
+  public void setUp() {
+    singly = new SinglyLinkedList<>();
+    doubly = new DoublyLinkedList<>();
+    circularly = new CircularlyLinkedList<>();
+    for (int i = 0; i < size; i++) {
+      Integer v = i;
+      singly.addLast(v);
+      doubly.addLast(v);
+      circularly.addLast(v);
+    }
+  }
+
+  @Benchmark
+  public long singlySequential() {
+    return singly.stream().mapToLong(Integer::longValue).sum();
+  }
+
+  @Benchmark
+  public long singlyParallel() {
+    return singly.parallelStream().mapToLong(Integer::longValue).sum();
+  }
+
+  @Benchmark
+  public long doublyParallel() {
+    return doubly.parallelStream().mapToLong(Integer::longValue).sum();
+  }
+
+  @Benchmark
+  public long circularlyParallel() {
+    return circularly.parallelStream().mapToLong(Integer::longValue).sum();
+  }
+
+  /** The workaround the spliterators replace. */
+  @Benchmark
+  public long singlyCopiedParallel() {
+    List<Integer> copy = new ArrayList<>(size);
+    singly.forEach(copy::add);
+    return copy.parallelStream().mapToLong(Integer::longValue).sum();
+  }
+}
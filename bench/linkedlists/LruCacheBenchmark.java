@@ -0,0 +1,94 @@
+package linkedlists;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of a get-or-put workload on {@link LruCache}, compared with
+ * a {@link LinkedHashMap} in access order that evicts its eldest entry.
+ * Keys are drawn from twice the capacity, so about half the lookups miss
+ * and cause an eviction. Run with <code>-prof gc</code> for allocation
+ * rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LruCacheBenchmark {
+
+  /** Number of entries the caches hold */
+  @Param({"10", "1000", "100000", "1000000"})
+  private int capacity;
+
+  /** Number of precomputed keys cycled through by the workload */
+  private static final int KEYS = 1 << 16;
+
+  /** Pre-boxed keys, so that boxing is not part of the measurement */
+  private Integer[] keys;
+
+  /** Position in keys of the next lookup */
+  private int next = 0;
+
+  private LruCache<Integer, Integer> cache;
+
+  private Map<Integer, Integer> linked;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    keys = new Integer[KEYS];
+    for (int i = 0; i < KEYS; i++)
+      keys[i] = random.nextInt(2 * capacity);
+    cache = new LruCache<>(capacity);
+    final int max = capacity;
+    linked = new LinkedHashMap<>(16, 0.75f, true) {
+      protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+        return size() > max;
+      }
+    };
+    for (int i = 0; i < capacity; i++) {
+      cache.put(i, i);
+      linked.put(i, i);
+    }
+  }
+
+  private Integer nextKey() {
+    Integer k = keys[next];
+    next = (next + 1) & (KEYS - 1);
+    return k;
+  }
+
+  @Benchmark
+  public Integer lruCache() {
+    Integer k = nextKey();
+    Integer v = cache.get(k);
+    if (v == null)
+      cache.put(k, v = k);
+    return v;
+  }
+
+  @Benchmark
+  public Integer linkedHashMap() {
+    Integer k = nextKey();
+    Integer v = linked.get(k);
+    if (v == null)
+      linked.put(k, v = k);
+    return v;
+  }
+}
@@ -0,0 +1,79 @@
+package linkedlists;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Append/consume throughput of {@link MappedSinglyLinkedList} against an
+ * on-heap {@link SinglyLinkedList} of boxed values. With
+ * <code>-prof gc</code> the mapped list shows no allocation per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MappedSinglyLinkedListBenchmark {
+
+  /** Number of elements in the lists under test */
+  @Param({"1000", "10000000"})
+  private int size;
+
+  /** The backing file of the mapped list */
+  private Path file;
+
+  /** The file-backed list */
+  private MappedSinglyLinkedList<Long> mapped;
+
+  /** The on-heap list */
+  private SinglyLinkedList<Long> heap;
+
+  @Setup
+  public void setUp() throws IOException {
+    file = Files.createTempFile("mapped-list", ".bin");
+    Files.delete(file);                      // let the list create it
+    mapped = new MappedSinglyLinkedList<>(file, MappedSinglyLinkedList.LONGS);
+    heap = new SinglyLinkedList<>();
+    for (long i = 0; i < size; i++) {
+      mapped.addLast(i + 1000);
+      heap.addLast(i + 1000);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    mapped.close();
+    Files.deleteIfExists(file);
+  }
+
+  /** Moves the front element to the back through removeFirst and addLast. */
+  @Benchmark
+  public long mappedChurn() throws IOException {
+    long e = mapped.removeFirst();
+    mapped.addLast(e + 1);
+    return e;
+  }
+
+  @Benchmark
+  public long heapChurn() {
+    long e = heap.removeFirst();
+    heap.addLast(e + 1);
+    return e;
+  }
+}
@@ -0,0 +1,61 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput and allocation of a {@link DoublyLinkedList} used as a queue
+ * of steady size, with and without node recycling, through the public
+ * addLast and removeFirst. Run with <code>-prof gc</code>: with recycling,
+ * gc.alloc.rate.norm should be close to zero bytes per operation, as the
+ * position returned by addLast is discarded and need not be allocated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class NodeRecyclingBenchmark {
+
+  /** Number of elements queued at all times */
+  @Param({"16", "100000"})
+  private int size;
+
+  /** Whether the list recycles its nodes */
+  @Param({"false", "true"})
+  private boolean recycling;
+
+  /** Pre-boxed element, so that boxing is not part of the measurement */
+  private static final Integer ELEMENT = 42;
+
+  /** The queue under test */
+  private DoublyLinkedList<Integer> queue;
+
+  @Setup
+  public void setUp() {
+    queue = new DoublyLinkedList<>();
+    if (recycling)
+      queue.enableNodeRecycling(64);
+    for (int i = 0; i < size; i++)
+      queue.addLast(ELEMENT);
+  }
+
+  /** One enqueue and one dequeue. */
+  @Benchmark
+  public Integer addLastRemoveFirst() {
+    queue.addLast(ELEMENT);
+    return queue.removeFirst();
+  }
+}
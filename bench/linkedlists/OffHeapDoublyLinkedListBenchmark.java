@@ -0,0 +1,71 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link OffHeapDoublyLinkedList} with an on-heap
+ * {@link DoublyLinkedList} of boxed values. Run with <code>-prof gc</code>:
+ * gc.time shows the collection work caused by the resident on-heap nodes,
+ * and the build benchmarks show the heap footprint of each list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+public class OffHeapDoublyLinkedListBenchmark {
+
+  /** Number of elements resident in the lists under test */
+  @Param({"1000", "10000000"})
+  private int size;
+
+  /** The off-heap list */
+  private OffHeapDoublyLinkedList offHeap;
+
+  /** The on-heap list */
+  private DoublyLinkedList<Long> heap;
+
+  @Setup
+  public void setUp() {
+    offHeap = new OffHeapDoublyLinkedList();
+    heap = new DoublyLinkedList<>();
+    for (long i = 0; i < size; i++) {
+      offHeap.addLast(i + 1000);
+      heap.addLast(i + 1000);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    offHeap.close();
+  }
+
+  /** Moves the front element to the back through removeFirst and addLast. */
+  @Benchmark
+  public long offHeapChurn() {
+    long e = offHeap.removeFirst();
+    offHeap.addLast(e + 1);
+    return e;
+  }
+
+  @Benchmark
+  public long heapChurn() {
+    long e = heap.removeFirst();
+    heap.addLast(e + 1);
+    return e;
+  }
+}
@@ -0,0 +1,89 @@
+package linkedlists;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of {@link DoublyLinkedList#parallelSort(Comparator, int)} on pools
+ * of 1, 4 and 16 workers and for several sequential thresholds, against
+ * the sequential {@link DoublyLinkedList#sort(Comparator)}. The list is
+ * rebuilt in shuffled order before each invocation. Parallelism beyond
+ * the number of available cores measures only overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ParallelSortBenchmark {
+
+  /** Number of elements in the list under test */
+  @Param({"1000000", "4000000", "16000000"})
+  private int size;
+
+  /** Number of workers of the pool */
+  @Param({"1", "4", "16"})
+  private int parallelism;
+
+  /** Number of elements sorted sequentially by one task */
+  @Param({"4096", "16384", "65536"})
+  private int threshold;
+
+  /** Pre-boxed elements in shuffled order */
+  private Integer[] values;
+
+  private ForkJoinPool pool;
+
+  private DoublyLinkedList<Integer> list;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    values = new Integer[size];
+    for (int i = 0; i < size; i++)
+      values[i] = random.nextInt();
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  @Setup(Level.Invocation)
+  public void shuffle() {
+    list = new DoublyLinkedList<>();
+    for (Integer v : values)
+      list.addLast(v);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public DoublyLinkedList<Integer> parallelSort() {
+    pool.submit(() -> list.parallelSort(Comparator.naturalOrder(), threshold)).join();
+    return list;
+  }
+
+  /** Baseline; independent of parallelism and threshold. */
+  @Benchmark
+  public DoublyLinkedList<Integer> sequentialSort() {
+    list.sort(Comparator.naturalOrder());
+    return list;
+  }
+}
@@ -0,0 +1,110 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the primitive lists with their generic counterparts holding
+ * boxed values. Values are outside the Integer cache, so the generic
+ * lists pay for boxing as callers do. Run with <code>-prof gc</code>
+ * to see that the primitive steady-state operations do not allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PrimitiveListBenchmark {
+
+  /** Number of elements in the lists under test */
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  private SinglyLinkedList<Integer> boxedSingly;
+  private IntSinglyLinkedList intSingly;
+  private DoublyLinkedList<Long> boxedDoubly;
+  private LongDoublyLinkedList longDoubly;
+  private CircularlyLinkedList<Integer> boxedCircular;
+  private IntCircularlyLinkedList intCircular;
+
+  @Setup
+  public void setUp() {
+    boxedSingly = new SinglyLinkedList<>();
+    intSingly = new IntSinglyLinkedList();
+    boxedDoubly = new DoublyLinkedList<>();
+    longDoubly = new LongDoublyLinkedList();
+    boxedCircular = new CircularlyLinkedList<>();
+    intCircular = new IntCircularlyLinkedList();
+    for (int i = 0; i < size; i++) {
+      boxedSingly.addLast(1000 + i);
+      intSingly.addLast(1000 + i);
+      boxedDoubly.addLast(1000L + i);
+      longDoubly.addLast(1000L + i);
+      boxedCircular.addLast(1000 + i);
+      intCircular.addLast(1000 + i);
+    }
+  }
+
+  /** Moves the front element to the back through removeFirst and addLast. */
+  @Benchmark
+  public int boxedSinglyChurn() {
+    int e = boxedSingly.removeFirst();
+    boxedSingly.addLast(e + 1);
+    return e;
+  }
+
+  @Benchmark
+  public int intSinglyChurn() {
+    int e = intSingly.removeFirst();
+    intSingly.addLast(e + 1);
+    return e;
+  }
+
+  @Benchmark
+  public long boxedDoublyChurn() {
+    long e = boxedDoubly.removeFirst();
+    boxedDoubly.addLast(e + 1);
+    return e;
+  }
+
+  @Benchmark
+  public long longDoublyChurn() {
+    long e = longDoubly.removeFirst();
+    longDoubly.addLast(e + 1);
+    return e;
+  }
+
+  @Benchmark
+  public int boxedCircularRotate() {
+    boxedCircular.rotate();
+    return boxedCircular.first();
+  }
+
+  @Benchmark
+  public int intCircularRotate() {
+    intCircular.rotate();
+    return intCircular.first();
+  }
+
+  @Benchmark
+  public int boxedSinglyHashCode() {
+    return boxedSingly.hashCode();
+  }
+
+  @Benchmark
+  public int intSinglyHashCode() {
+    return intSingly.hashCode();
+  }
+}
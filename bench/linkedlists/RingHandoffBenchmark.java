@@ -0,0 +1,119 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Handoff latency of {@link ConcurrentRingQueue}, for one and for several
+ * producers, against a {@link CircularlyLinkedList} guarded by a lock.
+ * Each invocation sends an element to an echo thread through one queue
+ * and waits for it to come back through another, so it measures two
+ * handoffs. Sample-time mode reports the p50, p99 and p999 percentiles
+ * of the round trip. Both threads spin, so the benchmark needs at least
+ * two idle cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingHandoffBenchmark {
+
+  /** A one-way channel between two threads. */
+  private interface Channel {
+    boolean offer(Integer e);
+
+    Integer poll();
+  }
+
+  /** Element sent back and forth */
+  private static final Integer TOKEN = 42;
+
+  /** Kind of channel: the ring for one or several producers, or a locked list */
+  @Param({"spsc", "mpsc", "locked"})
+  private String kind;
+
+  /** Channel to the echo thread */
+  private Channel request;
+
+  /** Channel from the echo thread */
+  private Channel response;
+
+  /** Thread returning every request as a response */
+  private Thread echo;
+
+  private volatile boolean running;
+
+  @Setup
+  public void setUp() {
+    request = channel();
+    response = channel();
+    running = true;
+    echo = new Thread(() -> {
+      while (running) {
+        Integer e = request.poll();
+        if (e == null) {
+          Thread.onSpinWait();
+          continue;
+        }
+        while (!response.offer(e))
+          Thread.onSpinWait();
+      }
+    });
+    echo.setDaemon(true);
+    echo.start();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    running = false;
+    echo.join();
+  }
+
+  private Channel channel() {
+    switch (kind) {
+      case "spsc":
+      case "mpsc": {
+        ConcurrentRingQueue<Integer> ring = new ConcurrentRingQueue<>(1024, kind.equals("mpsc"));
+        return new Channel() {
+          public boolean offer(Integer e) { return ring.addLast(e); }
+          public Integer poll() { return ring.removeFirst(); }
+        };
+      }
+      default: {
+        CircularlyLinkedList<Integer> list = new CircularlyLinkedList<>();
+        return new Channel() {
+          public synchronized boolean offer(Integer e) {
+            list.addLast(e);
+            return true;
+          }
+          public synchronized Integer poll() { return list.removeFirst(); }
+        };
+      }
+    }
+  }
+
+  /** One round trip through the echo thread. */
+  @Benchmark
+  public Integer roundTrip() {
+    while (!request.offer(TOKEN))
+      Thread.onSpinWait();
+    Integer e;
+    while ((e = response.poll()) == null)
+      Thread.onSpinWait();
+    return e;
+  }
+}
@@ -0,0 +1,104 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Selection throughput of {@link RoundRobinDispatcher} against a
+ * {@link CircularlyLinkedList} rotated behind a single lock, with four
+ * selecting threads. A further group adds and removes a member while
+ * three threads select. The heavy group uses coprime weights near one
+ * million, whose cycle is too long to precompute, so that next runs one
+ * step of the algorithm under a lock. Scale with <code>-tg</code>.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundRobinDispatcherBenchmark {
+
+  /** Number of members */
+  @Param({"4", "64"})
+  private int members;
+
+  /** The dispatcher, with weights 1 to 3 */
+  private RoundRobinDispatcher<Integer> dispatcher;
+
+  /** The equal-weight ring, guarded by its own monitor */
+  private CircularlyLinkedList<Integer> ring;
+
+  /** Member added and removed while others select */
+  private Integer extra;
+
+  /** A dispatcher whose weights are too heavy to precompute a cycle */
+  private RoundRobinDispatcher<Integer> heavy;
+
+  @Setup
+  public void setUp() {
+    dispatcher = new RoundRobinDispatcher<>();
+    ring = new CircularlyLinkedList<>();
+    for (int i = 0; i < members; i++) {
+      dispatcher.add(i, 1 + i % 3);
+      ring.addLast(i);
+    }
+    extra = members;
+    heavy = new RoundRobinDispatcher<>();
+    for (int i = 0; i < members; i++)
+      heavy.add(i, (i % 2 == 0) ? 1_000_003 : 999_983);
+  }
+
+  @Benchmark
+  @Group("dispatcher")
+  @GroupThreads(4)
+  public Integer dispatcherNext() {
+    return dispatcher.next();
+  }
+
+  @Benchmark
+  @Group("lockedRing")
+  @GroupThreads(4)
+  public Integer lockedRingNext() {
+    synchronized (ring) {
+      Integer e = ring.first();
+      ring.rotate();
+      return e;
+    }
+  }
+
+  @Benchmark
+  @Group("churn")
+  @GroupThreads(3)
+  public Integer churnNext() {
+    return dispatcher.next();
+  }
+
+  @Benchmark
+  @Group("churn")
+  @GroupThreads(1)
+  public boolean churnAddRemove() {
+    dispatcher.add(extra, 2);
+    return dispatcher.remove(extra);
+  }
+
+  @Benchmark
+  @Group("heavy")
+  @GroupThreads(4)
+  public Integer heavyNext() {
+    return heavy.next();
+  }
+}
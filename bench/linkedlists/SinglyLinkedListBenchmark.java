@@ -0,0 +1,141 @@
+package linkedlists;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the public operations of {@link SinglyLinkedList}.
+ * Run with <code>-prof gc</code> for allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SinglyLinkedListBenchmark {
+
+  /** Number of elements in the list under test */
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  /** Pre-boxed elements, so that boxing is not part of the measurement */
+  private Integer[] values;
+
+  /** The list under test */
+  private SinglyLinkedList<Integer> list;
+
+  /** An equal but independent copy of the list under test */
+  private SinglyLinkedList<Integer> copy;
+
+  /** A copy of the list under test with the swap index enabled */
+  private SinglyLinkedList<Integer> indexed;
+
+  /** A copy of the list under test with the hash cache enabled */
+  private SinglyLinkedList<Integer> cached;
+
+  @Setup
+  public void setUp() throws CloneNotSupportedException {
+    values = new Integer[size];
+    for (int i = 0; i < size; i++)
+      values[i] = i;
+    list = new SinglyLinkedList<>();
+    for (Integer v : values)
+      list.addLast(v);
+    copy = list.clone();
+    indexed = list.clone();
+    indexed.enableSwapIndex();
+    cached = list.clone();
+    cached.enableHashCache();
+  }
+
+  /** Builds a list of the given size at the front. */
+  @Benchmark
+  public SinglyLinkedList<Integer> addFirst() {
+    SinglyLinkedList<Integer> result = new SinglyLinkedList<>();
+    for (Integer v : values)
+      result.addFirst(v);
+    return result;
+  }
+
+  /** Builds a list of the given size at the back. */
+  @Benchmark
+  public SinglyLinkedList<Integer> addLast() {
+    SinglyLinkedList<Integer> result = new SinglyLinkedList<>();
+    for (Integer v : values)
+      result.addLast(v);
+    return result;
+  }
+
+  /** Removes from the front while keeping the list at a steady size. */
+  @Benchmark
+  public Integer removeFirst() {
+    Integer e = list.removeFirst();
+    list.addLast(e);
+    return e;
+  }
+
+  @Benchmark
+  public boolean equalsCopy() {
+    return list.equals(copy);
+  }
+
+  @Benchmark
+  public int hashCodeFull() {
+    return list.hashCode();
+  }
+
+  @Benchmark
+  public int hashCodeCached() {
+    return cached.hashCode();
+  }
+
+  /** Front and back updates while the hash cache is maintained. */
+  @Benchmark
+  public int removeFirstCached() {
+    cached.addLast(cached.removeFirst());
+    return cached.hashCode();
+  }
+
+  @Benchmark
+  public SinglyLinkedList<Integer> cloneList() throws CloneNotSupportedException {
+    return list.clone();
+  }
+
+  /** Swaps the first and last nodes, locating both in one walk. */
+  @Benchmark
+  public SinglyLinkedList.SwapResult swapNodes() {
+    return copy.swapNodes(copy.first(), copy.last());
+  }
+
+  /** Swaps the first and last nodes through the predecessor index. */
+  @Benchmark
+  public SinglyLinkedList.SwapResult swapNodesIndexed() {
+    return indexed.swapNodes(indexed.first(), indexed.last());
+  }
+
+  /** Builds the whole string representation in memory. */
+  @Benchmark
+  public int toStringFull() {
+    return list.toString().length();
+  }
+
+  /** Streams the same representation without holding it in memory. */
+  @Benchmark
+  public void writeTo() throws IOException {
+    list.writeTo(Writer.nullWriter());
+  }
+}
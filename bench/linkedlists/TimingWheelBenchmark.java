@@ -0,0 +1,93 @@
+package linkedlists;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time to schedule a batch of timers with random delays and run every one
+ * of them to expiry, or to cancel them all, on a {@link TimingWheel}
+ * compared with a {@link PriorityQueue} of deadlines. Run with
+ * <code>-prof gc</code> for allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TimingWheelBenchmark {
+
+  /** Largest delay, in ticks */
+  private static final int HORIZON = 1 << 20;
+
+  /** Number of timers scheduled */
+  @Param({"100000", "10000000"})
+  private int count;
+
+  /** Pre-boxed tasks, so that boxing is not part of the measurement */
+  private Integer[] tasks;
+
+  /** Delay of each timer */
+  private long[] delays;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    tasks = new Integer[count];
+    delays = new long[count];
+    for (int i = 0; i < count; i++) {
+      tasks[i] = i;
+      delays[i] = random.nextInt(HORIZON);
+    }
+  }
+
+  /** Schedules every timer, then advances until all have expired. */
+  @Benchmark
+  public int wheelScheduleExpire(Blackhole bh) {
+    TimingWheel<Integer> wheel = new TimingWheel<>(256);
+    for (int i = 0; i < count; i++)
+      wheel.schedule(tasks[i], delays[i]);
+    return wheel.advance(HORIZON, bh::consume);
+  }
+
+  /** Schedules every timer, then cancels each one. */
+  @Benchmark
+  public int wheelScheduleCancel() {
+    TimingWheel<Integer> wheel = new TimingWheel<>(256);
+    @SuppressWarnings("unchecked")
+    TimingWheel.Timer<Integer>[] timers = (TimingWheel.Timer<Integer>[]) new TimingWheel.Timer<?>[count];
+    for (int i = 0; i < count; i++)
+      timers[i] = wheel.schedule(tasks[i], delays[i]);
+    for (TimingWheel.Timer<Integer> timer : timers)
+      wheel.cancel(timer);
+    return wheel.size();
+  }
+
+  /** Schedules every deadline, then polls them all in order. */
+  @Benchmark
+  public int priorityQueueScheduleExpire(Blackhole bh) {
+    PriorityQueue<Long> queue = new PriorityQueue<>();
+    for (int i = 0; i < count; i++)
+      queue.add(delays[i]);
+    int expired = 0;
+    while (!queue.isEmpty()) {
+      bh.consume(queue.poll());
+      expired++;
+    }
+    return expired;
+  }
+}
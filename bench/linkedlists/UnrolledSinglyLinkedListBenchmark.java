@@ -0,0 +1,114 @@
+package linkedlists;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link UnrolledSinglyLinkedList} with {@link SinglyLinkedList}.
+ * The iterate benchmarks use the iterators and the forEach benchmarks the
+ * internal traversal; with <code>-prof gc</code>, gc.alloc.rate.norm of the build benchmarks is
+ * the memory footprint of a list of the given size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class UnrolledSinglyLinkedListBenchmark {
+
+  /** Number of elements in the lists under test */
+  @Param({"10", "1000", "100000", "10000000"})
+  private int size;
+
+  /** Pre-boxed elements, so that boxing is not part of the measurement */
+  private Integer[] values;
+
+  /** The node-per-element list */
+  private SinglyLinkedList<Integer> singly;
+
+  /** The chunked list */
+  private UnrolledSinglyLinkedList<Integer> unrolled;
+
+  @Setup
+  public void setUp() {
+    values = new Integer[size];
+    for (int i = 0; i < size; i++)
+      values[i] = i;
+    singly = buildSingly();
+    unrolled = buildUnrolled();
+  }
+
+  @Benchmark
+  public SinglyLinkedList<Integer> buildSingly() {
+    SinglyLinkedList<Integer> result = new SinglyLinkedList<>();
+    for (Integer v : values)
+      result.addLast(v);
+    return result;
+  }
+
+  @Benchmark
+  public UnrolledSinglyLinkedList<Integer> buildUnrolled() {
+    UnrolledSinglyLinkedList<Integer> result = new UnrolledSinglyLinkedList<>();
+    for (Integer v : values)
+      result.addLast(v);
+    return result;
+  }
+
+  @Benchmark
+  public long iterateSingly() {
+    long sum = 0;
+    for (Integer v : singly)
+      sum += v;
+    return sum;
+  }
+
+  @Benchmark
+  public long iterateUnrolled() {
+    long sum = 0;
+    for (Integer v : unrolled)
+      sum += v;
+    return sum;
+  }
+
+  @Benchmark
+  public long forEachSingly() {
+    long[] sum = {0};
+    singly.forEach(v -> sum[0] += v);
+    return sum[0];
+  }
+
+  @Benchmark
+  public long forEachUnrolled() {
+    long[] sum = {0};
+    unrolled.forEach(v -> sum[0] += v);
+    return sum[0];
+  }
+
+  /** Removes from the front while keeping the list at a steady size. */
+  @Benchmark
+  public Integer removeFirstSingly() {
+    Integer e = singly.removeFirst();
+    singly.addLast(e);
+    return e;
+  }
+
+  /** Removes from the front while keeping the list at a steady size. */
+  @Benchmark
+  public Integer removeFirstUnrolled() {
+    Integer e = unrolled.removeFirst();
+    unrolled.addLast(e);
+    return e;
+  }
+}
@@ -0,0 +1,172 @@
+package linkedlists;
+
+import java.util.function.Consumer;
+
+/**
+ * A circular list with the first/last/rotate/addFirst/addLast/removeFirst
+ * operations of {@link CircularlyLinkedList}, kept in a ring buffer: an
+ * array whose length is a power of two, in which the elements occupy
+ * size consecutive slots (modulo the length) starting at the head index.
+ * No operation allocates except when the array is full and doubles, and
+ * traversal walks consecutive slots rather than chasing references.
+ *
+ * Rotating advances the head index and moves the old first element to
+ * the slot after the last one; when the array is full that slot is the
+ * old head itself, so only the index moves.
+ */
+public class ArrayCircularList<E> {
+
+  /** Number of slots allocated by the default constructor */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** Largest number of slots (the largest power of two an array may hold) */
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  // instance variables of the ArrayCircularList
+  /** The slots of the ring buffer; unused slots are null */
+  private Object[] elements;
+
+  /** Index of the first element */
+  private int head = 0;
+
+  /** Number of elements in the list */
+  private int size = 0;
+
+  /** Constructs an initially empty list. */
+  public ArrayCircularList() { this(DEFAULT_CAPACITY); }
+
+  /**
+   * Constructs an initially empty list with room for the given number of
+   * elements before the array needs to grow.
+   * @param capacity  initial number of elements (rounded up to a power of two)
+   * @throws IllegalArgumentException if capacity is negative or too large
+   */
+  public ArrayCircularList(int capacity) {
+    if (capacity < 0 || capacity > MAX_CAPACITY)
+      throw new IllegalArgumentException("Illegal capacity: " + capacity);
+    int length = 2;
+    while (length < capacity)
+      length *= 2;
+    elements = new Object[length];
+  }
+
+  // access methods
+  /**
+   * Returns the number of elements in the list.
+   * @return number of elements in the list
+   */
+  public int size() { return size; }
+
+  /**
+   * Tests whether the list is empty.
+   * @return true if the list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list
+   * @return element at the front of the list (or null if empty)
+   */
+  public E first() {
+    if (isEmpty()) return null;
+    return elementAt(head);
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list
+   * @return element at the back of the list (or null if empty)
+   */
+  public E last() {
+    if (isEmpty()) return null;
+    return elementAt(slot(size - 1));
+  }
+
+  /**
+   * Performs the given action on each element of the list, in order.
+   * @param action  the action to perform
+   */
+  public void forEach(Consumer<? super E> action) {
+    for (int j = 0; j < size; j++)
+      action.accept(elementAt(slot(j)));
+  }
+
+  // update methods
+  /**
+   * Rotate the first element to the back of the list.
+   */
+  public void rotate() {
+    if (size == 0) return;                    // if empty, do nothing
+    if (size < elements.length) {             // move the first element after the last
+      elements[slot(size)] = elements[head];
+      elements[head] = null;
+    }
+    head = slot(1);                           // the old head becomes the new tail
+  }
+
+  /**
+   * Adds an element to the front of the list.
+   * @param e  the new element to add
+   */
+  public void addFirst(E e) {
+    if (size == elements.length) grow();
+    head = slot(-1);
+    elements[head] = e;
+    size++;
+  }
+
+  /**
+   * Adds an element to the end of the list.
+   * @param e  the new element to add
+   */
+  public void addLast(E e) {
+    if (size == elements.length) grow();
+    elements[slot(size)] = e;
+    size++;
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element (or null if empty)
+   */
+  public E removeFirst() {
+    if (isEmpty()) return null;               // nothing to remove
+    E answer = elementAt(head);
+    elements[head] = null;                    // help garbage collection
+    head = slot(1);
+    size--;
+    return answer;
+  }
+
+  // private utilities
+  /** Returns the array index of the element j places after the head. */
+  private int slot(int j) { return (head + j) & (elements.length - 1); }
+
+  @SuppressWarnings("unchecked")
+  private E elementAt(int index) { return (E) elements[index]; }
+
+  /** Doubles the array, moving the elements to its start in order. */
+  private void grow() {
+    if (elements.length == MAX_CAPACITY) throw new IllegalStateException("List is full");
+    Object[] larger = new Object[elements.length * 2];
+    int front = elements.length - head;       // elements from head to the end of the array
+    System.arraycopy(elements, head, larger, 0, front);
+    System.arraycopy(elements, 0, larger, front, head);
+    elements = larger;
+    head = 0;
+  }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    for (int j = 0; j < size; j++) {
+      if (j > 0)
+        sb.append(", ");
+      sb.append(elementAt(slot(j)));
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+}
@@ -22,6 +22,17 @@
  */
 package linkedlists;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An implementation of a circularly linked list.
@@ -30,7 +41,7 @@ package linkedlists;
  * @author Roberto Tamassia
  * @author Michael H. Goldwasser
  */
-public class CircularlyLinkedList<E> {
+public class CircularlyLinkedList<E> implements Iterable<E> {
   //---------------- nested Node class ----------------
   /**
    * Singly linked node, which stores a reference to its element and
@@ -76,6 +87,15 @@ public class CircularlyLinkedList<E> {
     public void setNext(Node<E> n) { next = n; }
   } //----------- end of nested Node class -----------
 
+  /**
+   * Counter shared by all lists that currently share one ring of nodes,
+   * as a result of cloneList.
+   */
+  private static class Sharing {
+    /** Number of lists sharing the ring */
+    private int count = 1;
+  }
+
   // instance variables of the CircularlyLinkedList
   /** The designated cursor of the list */
   private Node<E> tail = null;                  // we store tail (but not head)
@@ -83,6 +103,9 @@ public class CircularlyLinkedList<E> {
   /** Number of nodes in the list */
   private int size = 0;                         // number of nodes in the list
 
+  /** Sharing state of the node ring (null if the ring is exclusively ours) */
+  private Sharing sharing = null;               // set by cloneList
+
   /** Constructs an initially empty list. */
   public CircularlyLinkedList() { }             // constructs an initially empty list
 
@@ -117,6 +140,69 @@ public class CircularlyLinkedList<E> {
     return tail.getElement();
   }
 
+  /**
+   * Performs the given action on each element of the list, in order.
+   * @param action  the action to perform
+   */
+  public void forEach(Consumer<? super E> action) {
+    Node<E> walk = tail;
+    for (int j = 0; j < size; j++) {
+      walk = walk.getNext();                 // the head is *after* the tail
+      action.accept(walk.getElement());
+    }
+  }
+
+  /**
+   * Returns an iterator over the elements of the list, in order. The list
+   * must not be modified while the iterator is in use.
+   * @return an iterator over the elements of the list
+   */
+  public Iterator<E> iterator() { return new ElementIterator(); }
+
+  /**
+   * Returns a spliterator over the elements of the list, which reports
+   * SIZED and ORDERED. It splits by copying batches of elements into
+   * arrays, so that parallel streams can divide the list among threads.
+   * Like the spliterators of the JDK's lists it is late-binding: it takes
+   * the list's iterator and size at its first traversal, split or size
+   * query, not when it is created.
+   * @return a spliterator over the elements of the list
+   */
+  public Spliterator<E> spliterator() {
+    return Spliterators.spliterator(new AbstractCollection<E>() {   // a view read on first use
+      public Iterator<E> iterator() { return CircularlyLinkedList.this.iterator(); }
+      public int size() { return size; }
+    }, Spliterator.ORDERED);
+  }
+
+  /**
+   * Returns a sequential stream of the elements of the list.
+   * @return a stream of the elements of the list
+   */
+  public Stream<E> stream() { return StreamSupport.stream(spliterator(), false); }
+
+  /**
+   * Returns a parallel stream of the elements of the list.
+   * @return a parallel stream of the elements of the list
+   */
+  public Stream<E> parallelStream() { return StreamSupport.stream(spliterator(), true); }
+
+  //---------------- nested ElementIterator class ----------------
+  /** Iterator over the elements of the list, walking once around from the head. */
+  private class ElementIterator implements Iterator<E> {
+    private Node<E> walk = tail;             // node of the last element reported
+    private int remaining = size;            // number of elements not yet reported
+
+    public boolean hasNext() { return remaining > 0; }
+
+    public E next() {
+      if (remaining == 0) throw new NoSuchElementException("No more elements");
+      walk = walk.getNext();                 // the head is *after* the tail
+      remaining--;
+      return walk.getElement();
+    }
+  } //----------- end of nested ElementIterator class -----------
+
   // update methods
   /**
    * Rotate the first element to the back of the list.
@@ -131,6 +217,7 @@ public class CircularlyLinkedList<E> {
    * @param e  the new element to add
    */
   public void addFirst(E e) {                // adds element e to the front of the list
+    ensureExclusive();                       // copy a shared ring before linking
     if (size == 0) {
       tail = new Node<>(e, null);
       tail.setNext(tail);                     // link to itself circularly
@@ -156,6 +243,7 @@ public class CircularlyLinkedList<E> {
    */
   public E removeFirst() {                   // removes and returns the first element
     if (isEmpty()) return null;              // nothing to remove
+    ensureExclusive();                       // copy a shared ring before unlinking
     Node<E> head = tail.getNext();
     if (head == tail) tail = null;           // must be the only node left
     else tail.setNext(head.getNext());       // removes "head" from the list
@@ -163,39 +251,136 @@ public class CircularlyLinkedList<E> {
     return head.getElement();
   }
 
+  /**
+   * Appends the given number of elements, taken in order from the source.
+   * The new nodes are linked to one another directly and spliced in after
+   * the tail at the end, so the list is unchanged if the source throws.
+   * @param count   number of elements to append
+   * @param source  supplier of the elements
+   */
+  void appendAll(int count, Supplier<? extends E> source) {
+    if (count <= 0) return;
+    Node<E> first = new Node<>(source.get(), null);
+    Node<E> last = first;
+    for (int j = 1; j < count; j++) {
+      Node<E> newest = new Node<>(source.get(), null);
+      last.setNext(newest);
+      last = newest;
+    }
+    ensureExclusive();                       // copy a shared ring before linking
+    if (isEmpty()) {
+      last.setNext(first);                   // the new nodes form the whole ring
+    } else {
+      last.setNext(tail.getNext());          // the old head follows the new nodes
+      tail.setNext(first);
+    }
+    tail = last;
+    size += count;
+  }
+
+  /**
+   * Gives this list its own copy of the node ring if the ring is shared
+   * with a clone. The copy preserves the position of the cursor.
+   */
+  private void ensureExclusive() {
+    if (sharing == null) return;             // ring is already ours
+    if (sharing.count > 1) {                 // others still use the ring
+      sharing.count--;
+      Node<E> newTail = new Node<>(tail.getElement(), null);
+      Node<E> prev = newTail;
+      for (Node<E> walk = tail.getNext(); walk != tail; walk = walk.getNext()) {
+        Node<E> newest = new Node<>(walk.getElement(), null);
+        prev.setNext(newest);
+        prev = newest;
+      }
+      prev.setNext(newTail);                 // close the new ring
+      tail = newTail;
+    }
+    sharing = null;
+  }
+
+  /**
+   * Writes the contents of the list to the given destination in the
+   * format of toString, one element at a time, so that no string holding
+   * the whole list is ever built.
+   * @param out  destination of the characters
+   * @throws IOException if out does
+   */
+  public void writeTo(Appendable out) throws IOException {
+    writeTo(out, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Writes at most the given number of elements of the list to the given
+   * destination, in the format of toString. If elements remain, "..." is
+   * written in their place.
+   * @param out          destination of the characters
+   * @param maxElements  maximum number of elements to write
+   * @throws IOException if out does
+   * @throws IllegalArgumentException if maxElements is negative
+   */
+  public void writeTo(Appendable out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("maxElements must not be negative");
+    out.append('(');
+    Node<E> walk = tail;
+    for (int count = 0; count < size; count++) {
+      walk = walk.getNext();                  // the head is *after* the tail
+      if (count > 0)
+        out.append(", ");
+      if (count == maxElements) {
+        out.append("...");
+        break;
+      }
+      out.append(String.valueOf(walk.getElement()));
+    }
+    out.append(')');
+  }
+
   /**
    * Produces a string representation of the contents of the list.
    * This exists for debugging purposes only.
    */
   public String toString() {
-    if (tail == null) return "()";
-    StringBuilder sb = new StringBuilder("(");
-    Node<E> walk = tail;
-    do {
-      walk = walk.getNext();
-      sb.append(walk.getElement());
-      if (walk != tail)
-        sb.append(", ");
-    } while (walk != tail);
-    sb.append(")");
+    return toString(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Produces a string representation of at most the given number of
+   * elements of the list, followed by "..." if elements remain.
+   * @param maxElements  maximum number of elements to include
+   * @throws IllegalArgumentException if maxElements is negative
+   */
+  public String toString(int maxElements) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      writeTo(sb, maxElements);
+    } catch (IOException e) {                 // a StringBuilder never throws
+      throw new UncheckedIOException(e);
+    }
     return sb.toString();
   }
   
   // Assignment 1 - Question 3
   // -----------------------------------------------------------------------------------------------------
   
+  /**
+   * Returns an independent copy of this list in constant time. The copy
+   * shares this list's nodes until either list adds or removes an element,
+   * at which point the modified list copies the ring (copy-on-write).
+   * Rotating does not modify nodes, so it never forces a copy.
+   * @return a copy of the list
+   */
   public CircularlyLinkedList<E> cloneList() {
 	  // Create the cloned list to return
 	  CircularlyLinkedList<E> clone = new CircularlyLinkedList<E>();
+	  if (isEmpty()) return clone;		// nothing to share
 	  
-	  // Create node to traverse the list. Set to the head of the CLL
-	  Node<E> walk = tail.getNext();	  
-	  
-	  do  {
-		  clone.addLast(walk.getElement());
-		  walk = walk.getNext();
-	  }  
-	  while (walk != tail.getNext()); // Keep going until the head of the CLL is reached again
+	  // Share the ring of nodes and record one more list using it
+	  if (sharing == null) sharing = new Sharing();
+	  sharing.count++;
+	  clone.sharing = sharing;
+	  clone.tail = tail;
+	  clone.size = size;
 	  
 	  // Return the cloned list
 	  return clone;
@@ -236,6 +421,9 @@ public class CircularlyLinkedList<E> {
 	  
 	  // Show that the original list (clone1) has not changed
 	  System.out.println(list1);
+	  
+	  // Cloning an empty list
+	  System.out.println(new CircularlyLinkedList<String>().cloneList());
 	  //
   }
 }
@@ -0,0 +1,215 @@
+package linkedlists;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache that approximates least recently used eviction with the CLOCK
+ * (second chance) algorithm. Entries sit in a {@link CircularlyLinkedList}
+ * whose first element is the clock hand, and each entry carries a
+ * reference bit that a hit sets. To evict, the hand clears the bit of each
+ * referenced entry and rotates past it, until it finds an entry whose bit
+ * is clear. New entries are added behind the hand.
+ *
+ * A hit only sets a bit, so unlike {@link LruCache} it never relinks a
+ * node. Lookups therefore take no lock and may run in any number of
+ * threads, concurrently with updates; updates are serialized by a lock.
+ * Keys and values must not be null.
+ */
+public class ClockCache<K, V> {
+
+  //---------------- nested Entry class ----------------
+  /** An entry of the cache, stored as an element of the ring. */
+  private static class Entry<K, V> {
+    private final K key;
+    private volatile V value;
+    private volatile boolean referenced;   // set by hits, cleared by the hand
+    private boolean removed;               // guarded by the lock
+
+    public Entry(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  } //----------- end of nested Entry class -----------
+
+  // instance variables of the ClockCache
+  /** Entries in clock order; the first entry is under the hand */
+  private final CircularlyLinkedList<Entry<K, V>> ring = new CircularlyLinkedList<>();
+
+  /** Entry of each key */
+  private final ConcurrentHashMap<K, Entry<K, V>> index = new ConcurrentHashMap<>();
+
+  /** Lock serializing updates of the ring and index */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /** Maximum number of entries */
+  private final int capacity;
+
+  /** Number of entries removed by remove but still on the ring */
+  private int removedOnRing = 0;           // guarded by the lock
+
+  // statistics
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private volatile long evictions = 0;     // written under the lock
+
+  /**
+   * Constructs a cache holding at most the given number of entries.
+   * @param capacity  maximum number of entries
+   * @throws IllegalArgumentException if capacity is negative
+   */
+  public ClockCache(int capacity) {
+    if (capacity < 0) throw new IllegalArgumentException("Capacity must not be negative");
+    this.capacity = capacity;
+  }
+
+  // access methods
+  /**
+   * Returns the number of entries in the cache.
+   * @return number of entries
+   */
+  public int size() { return index.size(); }
+
+  /**
+   * Returns the value for the given key and marks it as referenced.
+   * Takes no lock.
+   * @param key  the key to look up
+   * @return the value for key (or null if not cached)
+   */
+  public V get(K key) {
+    Entry<K, V> entry = index.get(key);
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    if (!entry.referenced)                 // avoid writing a shared line on every hit
+      entry.referenced = true;
+    return entry.value;
+  }
+
+  /**
+   * Tests whether the given key is cached, without affecting reference
+   * bits or statistics.
+   * @param key  the key to look up
+   * @return true if key is cached
+   */
+  public boolean containsKey(K key) { return index.containsKey(key); }
+
+  // update methods
+  /**
+   * Caches the given value for the given key. A new entry is placed
+   * behind the hand, after evicting an entry if the cache is full.
+   * @param key    the key
+   * @param value  the value
+   * @return the value previously cached for key (or null if none)
+   */
+  public V put(K key, V value) {
+    if (key == null || value == null) throw new NullPointerException();
+    lock.lock();
+    try {
+      Entry<K, V> entry = index.get(key);
+      if (entry != null) {                 // replace in place
+        V old = entry.value;
+        entry.value = value;
+        entry.referenced = true;
+        return old;
+      }
+      if (capacity == 0) return null;      // nothing may be cached
+      if (index.size() == capacity)
+        evict();
+      entry = new Entry<>(key, value);
+      ring.addLast(entry);                 // just behind the hand
+      index.put(key, entry);
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the entry of the given key (not counted as an eviction). Its
+   * node stays on the ring until the hand next passes it.
+   * @param key  the key
+   * @return the value that was cached for key (or null if none)
+   */
+  public V remove(K key) {
+    lock.lock();
+    try {
+      Entry<K, V> entry = index.remove(key);
+      if (entry == null) return null;
+      entry.removed = true;
+      if (++removedOnRing > index.size())
+        purge();                           // keep the ring within twice the entries
+      return entry.value;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // statistics
+  /** @return number of get calls that found their key */
+  public long hitCount() { return hits.sum(); }
+
+  /** @return number of get calls that did not find their key */
+  public long missCount() { return misses.sum(); }
+
+  /** @return number of entries evicted to respect the capacity */
+  public long evictionCount() { return evictions; }
+
+  // private utilities
+  /** Advances the hand to an unreferenced entry and evicts it. */
+  private void evict() {
+    while (true) {
+      Entry<K, V> entry = ring.first();    // entry under the hand
+      if (entry.removed) {                 // already gone from the index
+        ring.removeFirst();
+        removedOnRing--;
+      } else if (entry.referenced) {       // second chance
+        entry.referenced = false;
+        ring.rotate();
+      } else {
+        ring.removeFirst();
+        index.remove(entry.key);
+        evictions++;
+        return;
+      }
+    }
+  }
+
+  /** Drops removed entries from the ring in one revolution of the hand. */
+  private void purge() {
+    for (int j = ring.size(); j > 0; j--) {
+      if (ring.first().removed)
+        ring.removeFirst();
+      else
+        ring.rotate();
+    }
+    removedOnRing = 0;
+  }
+
+  /**
+   * Produces a string representation of the cache, in clock order from the
+   * hand. Referenced entries are marked with '*'. This exists for
+   * debugging purposes only.
+   */
+  public String toString() {
+    lock.lock();
+    try {
+      StringBuilder sb = new StringBuilder("(");
+      ring.forEach(entry -> {
+        if (entry.removed) return;
+        if (sb.length() > 1)
+          sb.append(", ");
+        sb.append(entry.key).append('=').append(entry.value);
+        if (entry.referenced)
+          sb.append('*');
+      });
+      sb.append(")");
+      return sb.toString();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,274 @@
+package linkedlists;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe doubly linked list for use as a work deque, with the
+ * operations of {@link DoublyLinkedList}. The header and trailer sentinels
+ * give each end of the list its own lock: operations at the front hold the
+ * head lock and operations at the back hold the tail lock, so the two ends
+ * proceed concurrently. When the list holds fewer than
+ * {@link #MIN_INDEPENDENT_SIZE} elements an update at one end may touch
+ * the nodes at the other end, and the update then holds both locks
+ * (always acquired head first).
+ *
+ * The size is kept in an atomic counter that every update reads before and
+ * writes after relinking, which also publishes the new links to the
+ * thread working at the other end.
+ */
+public class ConcurrentDoublyLinkedList<E> {
+  //---------------- nested Node class ----------------
+  /**
+   * Node of a doubly linked list, which stores a reference to its
+   * element and to both the previous and next node in the list.
+   */
+  private static class Node<E> {
+
+    /** The element stored at this node */
+    private E element;               // reference to the element stored at this node
+
+    /** A reference to the preceding node in the list */
+    private Node<E> prev;            // reference to the previous node in the list
+
+    /** A reference to the subsequent node in the list */
+    private Node<E> next;            // reference to the subsequent node in the list
+
+    /**
+     * Creates a node with the given element and neighbors.
+     *
+     * @param e  the element to be stored
+     * @param p  reference to a node that should precede the new node
+     * @param n  reference to a node that should follow the new node
+     */
+    public Node(E e, Node<E> p, Node<E> n) {
+      element = e;
+      prev = p;
+      next = n;
+    }
+  } //----------- end of nested Node class -----------
+
+  /**
+   * Smallest size at which updates at opposite ends are guaranteed to
+   * touch disjoint links, and so may run under their own lock only.
+   */
+  public static final int MIN_INDEPENDENT_SIZE = 3;
+
+  // instance variables of the ConcurrentDoublyLinkedList
+  /** Sentinel node at the beginning of the list */
+  private final Node<E> header;
+
+  /** Sentinel node at the end of the list */
+  private final Node<E> trailer;
+
+  /** Lock guarding the links next to the header */
+  private final ReentrantLock headLock = new ReentrantLock();
+
+  /** Lock guarding the links next to the trailer */
+  private final ReentrantLock tailLock = new ReentrantLock();
+
+  /** Number of elements in the list (not including sentinels) */
+  private final AtomicInteger size = new AtomicInteger();
+
+  /** Constructs a new empty list. */
+  public ConcurrentDoublyLinkedList() {
+    header = new Node<>(null, null, null);      // create header
+    trailer = new Node<>(null, header, null);   // trailer is preceded by header
+    header.next = trailer;                      // header is followed by trailer
+  }
+
+  // public accessor methods
+  /**
+   * Returns the number of elements in the linked list.
+   * @return number of elements in the linked list
+   */
+  public int size() { return size.get(); }
+
+  /**
+   * Tests whether the linked list is empty.
+   * @return true if the linked list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size.get() == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list.
+   * @return element at the front of the list (or null if empty)
+   */
+  public E first() {
+    headLock.lock();
+    try {
+      if (size.get() == 0) return null;
+      return header.next.element;            // first element is beyond header
+    } finally {
+      headLock.unlock();
+    }
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list.
+   * @return element at the end of the list (or null if empty)
+   */
+  public E last() {
+    tailLock.lock();
+    try {
+      if (size.get() == 0) return null;
+      return trailer.prev.element;           // last element is before trailer
+    } finally {
+      tailLock.unlock();
+    }
+  }
+
+  // public update methods
+  /**
+   * Adds an element to the front of the list.
+   * @param e   the new element to add
+   */
+  public void addFirst(E e) {
+    headLock.lock();
+    try {
+      if (size.get() >= MIN_INDEPENDENT_SIZE) {
+        addBetween(e, header, header.next);  // place just after the header
+      } else {
+        tailLock.lock();                     // the back may be affected too
+        try {
+          addBetween(e, header, header.next);
+        } finally {
+          tailLock.unlock();
+        }
+      }
+    } finally {
+      headLock.unlock();
+    }
+  }
+
+  /**
+   * Adds an element to the end of the list.
+   * @param e   the new element to add
+   */
+  public void addLast(E e) {
+    tailLock.lock();
+    try {
+      if (size.get() >= MIN_INDEPENDENT_SIZE) {
+        addBetween(e, trailer.prev, trailer);  // place just before the trailer
+        return;
+      }
+    } finally {
+      tailLock.unlock();
+    }
+    headLock.lock();                         // reacquire both, head first
+    try {
+      tailLock.lock();
+      try {
+        addBetween(e, trailer.prev, trailer);
+      } finally {
+        tailLock.unlock();
+      }
+    } finally {
+      headLock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element (or null if empty)
+   */
+  public E removeFirst() {
+    headLock.lock();
+    try {
+      if (size.get() >= MIN_INDEPENDENT_SIZE)
+        return remove(header.next);          // first element is beyond header
+      tailLock.lock();                       // the back may be affected too
+      try {
+        if (size.get() == 0) return null;    // nothing to remove
+        return remove(header.next);
+      } finally {
+        tailLock.unlock();
+      }
+    } finally {
+      headLock.unlock();
+    }
+  }
+
+  /**
+   * Removes and returns the last element of the list.
+   * @return the removed element (or null if empty)
+   */
+  public E removeLast() {
+    tailLock.lock();
+    try {
+      if (size.get() >= MIN_INDEPENDENT_SIZE)
+        return remove(trailer.prev);         // last element is before trailer
+    } finally {
+      tailLock.unlock();
+    }
+    headLock.lock();                         // reacquire both, head first
+    try {
+      tailLock.lock();
+      try {
+        if (size.get() == 0) return null;    // nothing to remove
+        return remove(trailer.prev);
+      } finally {
+        tailLock.unlock();
+      }
+    } finally {
+      headLock.unlock();
+    }
+  }
+
+  // private update methods (callers hold the appropriate locks)
+  /**
+   * Adds an element to the linked list in between the given nodes.
+   * The given predecessor and successor should be neighboring each
+   * other prior to the call.
+   *
+   * @param predecessor   node just before the location where the new element is inserted
+   * @param successor     node just after the location where the new element is inserted
+   */
+  private void addBetween(E e, Node<E> predecessor, Node<E> successor) {
+    // create and link a new node
+    Node<E> newest = new Node<>(e, predecessor, successor);
+    predecessor.next = newest;
+    successor.prev = newest;
+    size.incrementAndGet();                  // publishes the new links
+  }
+
+  /**
+   * Removes the given node from the list and returns its element.
+   * @param node    the node to be removed (must not be a sentinel)
+   */
+  private E remove(Node<E> node) {
+    Node<E> predecessor = node.prev;
+    Node<E> successor = node.next;
+    predecessor.next = successor;
+    successor.prev = predecessor;
+    size.decrementAndGet();                  // publishes the new links
+    return node.element;
+  }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    headLock.lock();
+    try {
+      tailLock.lock();
+      try {
+        StringBuilder sb = new StringBuilder("(");
+        Node<E> walk = header.next;
+        while (walk != trailer) {
+          sb.append(walk.element);
+          walk = walk.next;
+          if (walk != trailer)
+            sb.append(", ");
+        }
+        sb.append(")");
+        return sb.toString();
+      } finally {
+        tailLock.unlock();
+      }
+    } finally {
+      headLock.unlock();
+    }
+  }
+}
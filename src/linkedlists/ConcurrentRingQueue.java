@@ -0,0 +1,232 @@
+package linkedlists;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * A bounded FIFO queue for handing elements from producer threads to a
+ * single consumer thread, offering the addLast/removeFirst operations of
+ * {@link CircularlyLinkedList} over a power-of-two array used as a ring.
+ * The producers advance a tail sequence and the consumer a head sequence;
+ * each sequence lives in its own padded object so that the two threads
+ * do not invalidate each other's cache line on every operation.
+ *
+ * Elements are published with release stores (the lazySet of the atomic
+ * classes) and read with acquire loads, so neither side ever takes a lock
+ * or issues a full fence. With a single producer, both operations are
+ * wait-free. With multiple producers (chosen at construction), producers
+ * claim slots with a compare-and-set on the tail, and the consumer waits
+ * briefly for a claimed slot whose element is not yet written.
+ *
+ * Only one thread at a time may call removeFirst or drainTo, and, unless
+ * multiple producers were requested, only one thread at a time may call
+ * addLast. Null elements are not permitted, since null is returned to
+ * signal an empty queue.
+ */
+public class ConcurrentRingQueue<E> {
+
+  //---------------- nested Sequence classes ----------------
+  /*
+   * A sequence is padded by inheritance: the VM may reorder the fields
+   * declared in one class, but always lays out a superclass's fields
+   * before those of its subclasses, so the counter sits between the two
+   * runs of padding whatever the field order chosen within each class.
+   */
+
+  /** Padding laid out before the counter. */
+  private static class SequencePadBefore {
+    long p01, p02, p03, p04, p05, p06, p07;
+  }
+
+  /** The fields of a sequence. */
+  private static class SequenceFields extends SequencePadBefore {
+    /** The sequence number; written by its owning side only */
+    volatile long value;
+
+    /** The owner's last view of the opposite sequence */
+    long cached;
+  }
+
+  /**
+   * A counter padded on both sides, so that it does not share a cache
+   * line with any other frequently written field.
+   */
+  private static final class Sequence extends SequenceFields {
+    long p11, p12, p13, p14, p15, p16, p17;      // padding after
+  } //----------- end of nested Sequence classes -----------
+
+  /** Handle for release/acquire access to a sequence */
+  private static final VarHandle VALUE;
+
+  /** Handle for release/acquire access to the slots */
+  private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(SequenceFields.class, "value", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // instance variables of the ConcurrentRingQueue
+  /** The slots of the ring; a slot is null until its element is published */
+  private final Object[] slots;
+
+  /** Number of slots, less one */
+  private final int mask;
+
+  /** Whether several threads may add concurrently */
+  private final boolean multipleProducers;
+
+  /** Sequence number of the next element to add */
+  private final Sequence tail = new Sequence();
+
+  /** Sequence number of the next element to remove */
+  private final Sequence head = new Sequence();
+
+  /**
+   * Constructs an empty queue for a single producer.
+   * @param capacity  most elements the queue holds (rounded up to a power of two)
+   * @throws IllegalArgumentException if capacity is not positive or too large
+   */
+  public ConcurrentRingQueue(int capacity) { this(capacity, false); }
+
+  /**
+   * Constructs an empty queue.
+   * @param capacity           most elements the queue holds (rounded up to a power of two)
+   * @param multipleProducers  true if several threads may call addLast concurrently
+   * @throws IllegalArgumentException if capacity is not positive or too large
+   */
+  public ConcurrentRingQueue(int capacity, boolean multipleProducers) {
+    if (capacity < 1 || capacity > (1 << 30))
+      throw new IllegalArgumentException("Illegal capacity: " + capacity);
+    int length = 1;
+    while (length < capacity)
+      length *= 2;
+    slots = new Object[length];
+    mask = length - 1;
+    this.multipleProducers = multipleProducers;
+  }
+
+  // access methods
+  /**
+   * Returns the most elements the queue holds.
+   * @return capacity of the queue
+   */
+  public int capacity() { return slots.length; }
+
+  /**
+   * Returns the number of elements in the queue. The result is exact only
+   * when the queue is not being modified concurrently.
+   * @return number of elements in the queue
+   */
+  public int size() {
+    long h = (long) VALUE.getAcquire(head);
+    long t = (long) VALUE.getAcquire(tail);
+    return (int) Math.max(0, Math.min(t - h, slots.length));
+  }
+
+  /**
+   * Tests whether the queue is empty.
+   * @return true if the queue is empty, false otherwise
+   */
+  public boolean isEmpty() { return size() == 0; }
+
+  // update methods
+  /**
+   * Adds an element to the end of the queue, unless the queue is full.
+   * @param e  the new element to add
+   * @return true if the element was added, false if the queue was full
+   * @throws NullPointerException if e is null
+   */
+  public boolean addLast(E e) {
+    if (e == null) throw new NullPointerException("Null elements are not permitted");
+    long t;
+    if (multipleProducers) {
+      do {
+        t = (long) VALUE.getVolatile(tail);
+        if (t - (long) VALUE.getAcquire(head) >= slots.length) return false;
+      } while (!VALUE.compareAndSet(tail, t, t + 1));      // claim slot t
+      SLOTS.setRelease(slots, (int) t & mask, e);
+    } else {
+      t = tail.value;
+      if (t - tail.cached >= slots.length) {               // looks full: look again
+        tail.cached = (long) VALUE.getAcquire(head);
+        if (t - tail.cached >= slots.length) return false;
+      }
+      SLOTS.setRelease(slots, (int) t & mask, e);
+      VALUE.setRelease(tail, t + 1);
+    }
+    return true;
+  }
+
+  /**
+   * Removes and returns the first element of the queue.
+   * @return the removed element (or null if empty)
+   */
+  public E removeFirst() {
+    long h = head.value;
+    E answer = take(h);
+    if (answer != null)
+      VALUE.setRelease(head, h + 1);               // hand the slot back to producers
+    return answer;
+  }
+
+  /**
+   * Removes up to the given number of elements from the front of the
+   * queue and passes them, in order, to the given action. The slots are
+   * handed back to the producers once, at the end of the batch.
+   * @param action  receives the removed elements
+   * @param max     most elements to remove
+   * @return the number of elements removed
+   */
+  public int drainTo(Consumer<? super E> action, int max) {
+    long h = head.value;
+    int count = 0;
+    try {
+      while (count < max) {
+        E e = take(h + count);
+        if (e == null) break;
+        count++;
+        action.accept(e);
+      }
+    } finally {
+      if (count > 0)
+        VALUE.setRelease(head, h + count);
+    }
+    return count;
+  }
+
+  // private utilities
+  /**
+   * Takes the element with the given sequence number out of its slot,
+   * without advancing the head.
+   * @return the element (or null if it has not been added)
+   */
+  @SuppressWarnings("unchecked")
+  private E take(long sequence) {
+    int index = (int) sequence & mask;
+    E e = (E) SLOTS.getAcquire(slots, index);
+    if (e == null) {
+      if (!multipleProducers) return null;          // nothing published yet
+      if (head.cached <= sequence) {                // refresh our view of the tail
+        head.cached = (long) VALUE.getAcquire(tail);
+        if (head.cached <= sequence) return null;   // nothing claimed either
+      }
+      while ((e = (E) SLOTS.getAcquire(slots, index)) == null)
+        Thread.onSpinWait();                        // a producer is about to write it
+    }
+    slots[index] = null;                            // published by the release of head
+    return e;
+  }
+
+  /**
+   * Produces a string representation of the state of the queue.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    return "(size=" + size() + ", capacity=" + capacity() + ")";
+  }
+}
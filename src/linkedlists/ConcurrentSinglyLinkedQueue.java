@@ -0,0 +1,173 @@
+package linkedlists;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe FIFO queue built on singly linked nodes, offering the
+ * addLast/removeFirst/first/size operations of {@link SinglyLinkedList}.
+ * It is the non-blocking algorithm of Michael and Scott: the list always
+ * begins with a dummy node, producers link new nodes after the tail with a
+ * compare-and-set on its next reference, and consumers advance the head
+ * with a compare-and-set. Threads that find the tail lagging behind help
+ * to advance it, so no thread ever waits for another.
+ *
+ * Null elements are not permitted, since null is returned to signal an
+ * empty queue. The size is maintained with a striped counter and is only
+ * an estimate while the queue is being modified concurrently, though it
+ * is never negative.
+ */
+public class ConcurrentSinglyLinkedQueue<E> {
+  //---------------- nested Node class ----------------
+  /**
+   * Node of the queue, which stores a reference to its element and to the
+   * subsequent node in the list (or null if this is the last node).
+   */
+  private static class Node<E> {
+
+    /** The element stored at this node (null for the dummy node) */
+    private volatile E element;
+
+    /** A reference to the subsequent node in the list */
+    private volatile Node<E> next;
+
+    /**
+     * Creates a node with the given element.
+     * @param e  the element to be stored
+     */
+    public Node(E e) { element = e; }
+  } //----------- end of nested Node class -----------
+
+  /** Handle for compare-and-set on a node's next reference */
+  private static final VarHandle NEXT;
+
+  /** Handle for compare-and-set on the head of the queue */
+  private static final VarHandle HEAD;
+
+  /** Handle for compare-and-set on the tail of the queue */
+  private static final VarHandle TAIL;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+      HEAD = lookup.findVarHandle(ConcurrentSinglyLinkedQueue.class, "head", Node.class);
+      TAIL = lookup.findVarHandle(ConcurrentSinglyLinkedQueue.class, "tail", Node.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // instance variables of the ConcurrentSinglyLinkedQueue
+  /** The dummy node preceding the first element */
+  private volatile Node<E> head;
+
+  /** The last node of the list, or a node shortly before it */
+  private volatile Node<E> tail;
+
+  /** Number of elements in the queue */
+  private final LongAdder size = new LongAdder();
+
+  /** Constructs an initially empty queue. */
+  public ConcurrentSinglyLinkedQueue() {
+    head = tail = new Node<>(null);          // both refer to the dummy node
+  }
+
+  // access methods
+  /**
+   * Returns the number of elements in the queue, which is an estimate
+   * while other threads modify the queue.
+   * @return number of elements in the queue
+   */
+  public int size() {
+    int n = size.intValue();
+    return Math.max(n, 0);                   // cells may be summed mid-update
+  }
+
+  /**
+   * Tests whether the queue is empty.
+   * @return true if the queue is empty, false otherwise
+   */
+  public boolean isEmpty() { return head.next == null; }
+
+  /**
+   * Returns (but does not remove) the first element of the queue.
+   * @return element at the front of the queue (or null if empty)
+   */
+  public E first() {
+    while (true) {
+      Node<E> h = head;
+      Node<E> first = h.next;
+      if (first == null) return null;        // nothing after the dummy node
+      E answer = first.element;
+      if (h == head) return answer;          // first was not consumed meanwhile
+    }
+  }
+
+  // update methods
+  /**
+   * Adds an element to the end of the queue.
+   * @param e  the new element to add
+   * @throws NullPointerException if e is null
+   */
+  public void addLast(E e) {
+    if (e == null) throw new NullPointerException("Null elements are not permitted");
+    Node<E> newest = new Node<>(e);
+    size.increment();                        // counted before any consumer can see it
+    while (true) {
+      Node<E> t = tail;
+      Node<E> next = t.next;
+      if (t != tail) continue;               // tail moved; read again
+      if (next == null) {                    // t is the last node: try to link after it
+        if (NEXT.compareAndSet(t, (Node<?>) null, newest)) {
+          TAIL.compareAndSet(this, t, newest);  // failure means another thread helped
+          break;
+        }
+      } else {
+        TAIL.compareAndSet(this, t, next);   // tail is lagging: help advance it
+      }
+    }
+  }
+
+  /**
+   * Removes and returns the first element of the queue.
+   * @return the removed element (or null if empty)
+   */
+  public E removeFirst() {
+    while (true) {
+      Node<E> h = head;
+      Node<E> t = tail;
+      Node<E> first = h.next;
+      if (h != head) continue;               // head moved; read again
+      if (first == null) return null;        // nothing to remove
+      if (h == t) {
+        TAIL.compareAndSet(this, t, first);  // tail is lagging: help advance it
+      } else {
+        E answer = first.element;
+        if (HEAD.compareAndSet(this, h, first)) {  // first becomes the new dummy node
+          first.element = null;              // help garbage collection
+          size.decrement();
+          return answer;
+        }
+      }
+    }
+  }
+
+  /**
+   * Produces a string representation of the contents of the queue.
+   * This exists for debugging purposes only and is not atomic.
+   */
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    String separator = "";
+    for (Node<E> walk = head.next; walk != null; walk = walk.next) {
+      E e = walk.element;
+      if (e == null) continue;               // consumed while we were walking
+      sb.append(separator).append(e);
+      separator = ", ";
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+}
@@ -22,6 +22,20 @@
  */
 package linkedlists;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractCollection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A basic doubly linked list implementation.
  *
@@ -29,14 +43,15 @@ package linkedlists;
  * @author Roberto Tamassia
  * @author Michael H. Goldwasser
  */
-public class DoublyLinkedList<E> {
+public class DoublyLinkedList<E> implements Iterable<E> {
 
   //---------------- nested Node class ----------------
   /**
    * Node of a doubly linked list, which stores a reference to its
    * element and to both the previous and next node in the list.
+   * Other classes of the package may hold nodes as handles to elements.
    */
-  private static class Node<E> {
+  static class Node<E> {
 
     /** The element stored at this node */
     private E element;               // reference to the element stored at this node
@@ -47,6 +62,12 @@ public class DoublyLinkedList<E> {
     /** A reference to the subsequent node in the list */
     private Node<E> next;            // reference to the subsequent node in the list
 
+    /** The owner of the list holding this node (null for sentinels and removed nodes) */
+    private Owner owner;
+
+    /** Number of times the node has been removed, which retires its older positions */
+    private int generation;                    // wraps only after 2^32 removals
+
     /**
      * Creates a node with the given element and next node.
      *
@@ -80,6 +101,12 @@ public class DoublyLinkedList<E> {
     public Node<E> getNext() { return next; }
 
     // Update methods
+    /**
+     * Replaces the element stored at the node.
+     * @param e    the new element
+     */
+    public void setElement(E e) { element = e; }
+
     /**
      * Sets the node's previous reference to point to Node n.
      * @param p    the node that should precede this one
@@ -94,6 +121,64 @@ public class DoublyLinkedList<E> {
     
   } //----------- end of nested Node class -----------
 
+  //---------------- nested Owner class ----------------
+  /**
+   * Identity of a list, recorded in each of its nodes so that positions
+   * of other lists can be rejected. When spliceAppend moves the nodes of
+   * one list to another, the donor's owner is made to forward to the
+   * receiver's, so the moved nodes need not be visited.
+   */
+  private static final class Owner {
+    /** The owner that took over our nodes (or null) */
+    private Owner forward = null;
+
+    /** Returns the owner at the end of the forwarding chain, shortening the chain. */
+    public Owner resolve() {
+      Owner root = this;
+      while (root.forward != null)
+        root = root.forward;
+      for (Owner walk = this; walk != root; ) {  // point every step at the root
+        Owner next = walk.forward;
+        walk.forward = root;
+        walk = next;
+      }
+      return root;
+    }
+  } //----------- end of nested Owner class -----------
+
+  //---------------- nested NodePosition class ----------------
+  /**
+   * Position handed out by the list: a node together with the generation
+   * of the node when the position was taken. Removing the node advances
+   * its generation, so the position is recognized as removed even if the
+   * node is later recycled for another element.
+   */
+  private static final class NodePosition<E> implements Position<E> {
+    private final Node<E> node;
+    private final int generation;
+
+    public NodePosition(Node<E> node) {
+      this.node = node;
+      generation = node.generation;
+    }
+
+    /** @return whether the node still holds the element of this position */
+    public boolean isCurrent() { return node.generation == generation; }
+
+    public E getElement() { return isCurrent() ? node.getElement() : null; }
+
+    public boolean equals(Object o) {
+      if (!(o instanceof NodePosition)) return false;
+      NodePosition<?> other = (NodePosition<?>) o;
+      return node == other.node && generation == other.generation;
+    }
+
+    public int hashCode() { return 31 * System.identityHashCode(node) + generation; }
+  } //----------- end of nested NodePosition class -----------
+
+  /** Default number of elements sorted sequentially by one task of parallelSort */
+  public static final int DEFAULT_SORT_THRESHOLD = 1 << 14;
+
   // instance variables of the DoublyLinkedList
   /** Sentinel node at the beginning of the list */
   private Node<E> header;                    // header sentinel
@@ -104,6 +189,18 @@ public class DoublyLinkedList<E> {
   /** Number of elements in the list (not including sentinels) */
   private int size = 0;                      // number of elements in the list
 
+  /** Identity of the list, shared by its nodes */
+  private Owner owner = new Owner();
+
+  /** Removed nodes kept for reuse, chained through their next references */
+  private Node<E> pool = null;               // used only if recycling is enabled
+
+  /** Number of nodes in the pool */
+  private int pooled = 0;
+
+  /** Most nodes the pool may hold (0 if recycling is disabled) */
+  private int poolCapacity = 0;
+
   /** Constructs a new empty list. */
   public DoublyLinkedList() {
     header = new Node<>(null, null, null);      // create header
@@ -142,21 +239,210 @@ public class DoublyLinkedList<E> {
     return trailer.getPrev().getElement();    // last element is before trailer
   }
 
+  /**
+   * Returns the position of the first element of the list.
+   * @return the first position (or null if empty)
+   */
+  public Position<E> firstPosition() {
+    if (isEmpty()) return null;
+    return position(header.getNext());
+  }
+
+  /**
+   * Returns the position of the last element of the list.
+   * @return the last position (or null if empty)
+   */
+  public Position<E> lastPosition() {
+    if (isEmpty()) return null;
+    return position(trailer.getPrev());
+  }
+
+  /**
+   * Returns the position just before the given position.
+   * @param p   a position of this list
+   * @return the preceding position (or null if p is first)
+   * @throws IllegalArgumentException if p is not a position of this list
+   */
+  public Position<E> before(Position<E> p) {
+    Node<E> node = validate(p);
+    Node<E> prev = node.getPrev();
+    return (prev == header) ? null : position(prev);
+  }
+
+  /**
+   * Returns the position just after the given position.
+   * @param p   a position of this list
+   * @return the following position (or null if p is last)
+   * @throws IllegalArgumentException if p is not a position of this list
+   */
+  public Position<E> after(Position<E> p) {
+    Node<E> node = validate(p);
+    Node<E> next = node.getNext();
+    return (next == trailer) ? null : position(next);
+  }
+
+  /**
+   * Performs the given action on each element of the list, in order.
+   * @param action  the action to perform
+   */
+  public void forEach(Consumer<? super E> action) {
+    for (Node<E> walk = header.getNext(); walk != trailer; walk = walk.getNext())
+      action.accept(walk.getElement());
+  }
+
+  /**
+   * Returns an iterator over the elements of the list, in order. The list
+   * must not be modified while the iterator is in use.
+   * @return an iterator over the elements of the list
+   */
+  public Iterator<E> iterator() { return new ElementIterator(); }
+
+  /**
+   * Returns a spliterator over the elements of the list, which reports
+   * SIZED and ORDERED. It splits by copying batches of elements into
+   * arrays, so that parallel streams can divide the list among threads.
+   * Like the spliterators of the JDK's lists it is late-binding: it takes
+   * the list's iterator and size at its first traversal, split or size
+   * query, not when it is created.
+   * @return a spliterator over the elements of the list
+   */
+  public Spliterator<E> spliterator() {
+    return Spliterators.spliterator(new AbstractCollection<E>() {   // a view read on first use
+      public Iterator<E> iterator() { return DoublyLinkedList.this.iterator(); }
+      public int size() { return size; }
+    }, Spliterator.ORDERED);
+  }
+
+  /**
+   * Returns a sequential stream of the elements of the list.
+   * @return a stream of the elements of the list
+   */
+  public Stream<E> stream() { return StreamSupport.stream(spliterator(), false); }
+
+  /**
+   * Returns a parallel stream of the elements of the list.
+   * @return a parallel stream of the elements of the list
+   */
+  public Stream<E> parallelStream() { return StreamSupport.stream(spliterator(), true); }
+
+  //---------------- nested ElementIterator class ----------------
+  /** Iterator over the elements of the list, walking the nodes from the header. */
+  private class ElementIterator implements Iterator<E> {
+    private Node<E> walk = header.getNext(); // node of the next element to report
+
+    public boolean hasNext() { return walk != trailer; }
+
+    public E next() {
+      if (walk == trailer) throw new NoSuchElementException("No more elements");
+      E answer = walk.getElement();
+      walk = walk.getNext();
+      return answer;
+    }
+  } //----------- end of nested ElementIterator class -----------
+
+  //---------------- nested SortTask class ----------------
+  /**
+   * Sorts a range of the segments of a detached chain, by sorting halves
+   * of the range in parallel and merging the results.
+   */
+  private static class SortTask<E> extends RecursiveTask<Node<E>> {
+    private static final long serialVersionUID = 1L;
+
+    private final Node<E>[] segments;            // first node of each segment
+    private final int[] lengths;                 // number of nodes of each segment
+    private final int lo, hi;                    // range of segments to sort
+    private final Comparator<? super E> c;
+
+    public SortTask(Node<E>[] segments, int[] lengths, int lo, int hi, Comparator<? super E> c) {
+      this.segments = segments;
+      this.lengths = lengths;
+      this.lo = lo;
+      this.hi = hi;
+      this.c = c;
+    }
+
+    protected Node<E> compute() {
+      if (hi - lo == 1) return sortChain(segments[lo], lengths[lo], c);
+      int mid = (lo + hi) >>> 1;
+      SortTask<E> left = new SortTask<>(segments, lengths, lo, mid, c);
+      left.fork();
+      Node<E> right;
+      try {
+        right = new SortTask<>(segments, lengths, mid, hi, c).compute();
+      } finally {
+        left.quietlyJoin();                      // never leave a subtask relinking nodes
+      }
+      Node<E> front = new Node<>(null, null, null);  // temporary node before the result
+      merge(left.join(), right, front, c);       // left first keeps the sort stable
+      return front.getNext();
+    }
+  } //----------- end of nested SortTask class -----------
+
   // public update methods
   /**
    * Adds an element to the front of the list.
    * @param e   the new element to add
+   * @return the position of the new element
    */
-  public void addFirst(E e) {
-    addBetween(e, header, header.getNext());    // place just after the header
+  public Position<E> addFirst(E e) {
+    return position(addBetween(e, header, header.getNext())); // place just after the header
   }
 
   /**
    * Adds an element to the end of the list.
    * @param e   the new element to add
+   * @return the position of the new element
+   */
+  public Position<E> addLast(E e) {
+    return position(addBetween(e, trailer.getPrev(), trailer)); // place just before the trailer
+  }
+
+  /**
+   * Adds an element just before the given position.
+   * @param p   a position of this list
+   * @param e   the new element to add
+   * @return the position of the new element
+   * @throws IllegalArgumentException if p is not a position of this list
    */
-  public void addLast(E e) {
-    addBetween(e, trailer.getPrev(), trailer);  // place just before the trailer
+  public Position<E> addBefore(Position<E> p, E e) {
+    Node<E> node = validate(p);
+    return position(addBetween(e, node.getPrev(), node));
+  }
+
+  /**
+   * Adds an element just after the given position.
+   * @param p   a position of this list
+   * @param e   the new element to add
+   * @return the position of the new element
+   * @throws IllegalArgumentException if p is not a position of this list
+   */
+  public Position<E> addAfter(Position<E> p, E e) {
+    Node<E> node = validate(p);
+    return position(addBetween(e, node, node.getNext()));
+  }
+
+  /**
+   * Replaces the element at the given position.
+   * @param p   a position of this list
+   * @param e   the new element
+   * @return the element formerly at p
+   * @throws IllegalArgumentException if p is not a position of this list
+   */
+  public E set(Position<E> p, E e) {
+    Node<E> node = validate(p);
+    E answer = node.getElement();
+    node.setElement(e);
+    return answer;
+  }
+
+  /**
+   * Removes the element at the given position, which becomes invalid.
+   * @param p   a position of this list
+   * @return the removed element
+   * @throws IllegalArgumentException if p is not a position of this list
+   */
+  public E remove(Position<E> p) {
+    return remove(validate(p));
   }
 
   /**
@@ -177,6 +463,186 @@ public class DoublyLinkedList<E> {
     return remove(trailer.getPrev());            // last element is before trailer
   }
 
+  /**
+   * Moves all elements of the other list to the end of this list in
+   * constant time by relinking nodes. The other list is left empty.
+   * @param other   the list whose elements are appended (must not be this list)
+   * @throws IllegalArgumentException if other is this list
+   */
+  public void spliceAppend(DoublyLinkedList<E> other) {
+    if (other == this) throw new IllegalArgumentException("Cannot splice a list onto itself");
+    if (other.isEmpty()) return;                 // nothing to move
+    Node<E> first = other.header.getNext();
+    Node<E> last = other.trailer.getPrev();
+    Node<E> predecessor = trailer.getPrev();
+    predecessor.setNext(first);                  // link our last node to their first
+    first.setPrev(predecessor);
+    last.setNext(trailer);                       // link their last node to our trailer
+    trailer.setPrev(last);
+    size += other.size;
+    other.header.setNext(other.trailer);         // donor keeps only its sentinels
+    other.trailer.setPrev(other.header);
+    other.size = 0;
+    other.owner.forward = owner;                 // the moved nodes are now ours
+    other.owner = new Owner();
+  }
+
+  /**
+   * Sorts the list in place by relinking its nodes, with an iterative
+   * bottom-up merge sort: O(n log n) comparisons, constant extra space,
+   * and stable (equal elements keep their order). The merges follow the
+   * next references only; the previous references are restored in a
+   * final pass. If the comparator throws, the list is left unchanged.
+   * @param c  the comparator (or null for the natural ordering)
+   */
+  @SuppressWarnings("unchecked")
+  public void sort(Comparator<? super E> c) {
+    if (size < 2) return;                        // already sorted
+    if (c == null) c = (Comparator<? super E>) Comparator.naturalOrder();
+    Node<E> sorted = null;
+    trailer.getPrev().setNext(null);             // detach the trailer
+    try {
+      sorted = sortChain(header.getNext(), size, c);
+    } finally {
+      if (sorted != null)
+        relink(sorted);
+      else
+        restoreOrder();                          // the comparator threw
+    }
+  }
+
+  /**
+   * Sorts the list in place on a fork/join pool, using the default
+   * sequential threshold.
+   * @param c  the comparator (or null for the natural ordering)
+   * @see #parallelSort(Comparator, int)
+   */
+  public void parallelSort(Comparator<? super E> c) {
+    parallelSort(c, DEFAULT_SORT_THRESHOLD);
+  }
+
+  /**
+   * Sorts the list in place on a fork/join pool. The node chain is cut
+   * into segments of the given length, which are sorted by parallel tasks
+   * as in {@link #sort}; sorted chains are then merged pairwise by
+   * relinking, so no element is copied. The result is stable. The tasks
+   * run in the pool of the calling task, or in the common pool. If the
+   * comparator throws, the list is left unchanged.
+   * @param c          the comparator (or null for the natural ordering)
+   * @param threshold  number of elements sorted sequentially by one task
+   * @throws IllegalArgumentException if threshold is not positive
+   */
+  @SuppressWarnings("unchecked")
+  public void parallelSort(Comparator<? super E> c, int threshold) {
+    if (threshold < 1) throw new IllegalArgumentException("Threshold must be positive");
+    if (size <= threshold) {                     // not worth splitting
+      sort(c);
+      return;
+    }
+    if (c == null) c = (Comparator<? super E>) Comparator.naturalOrder();
+    int count = size / threshold + (size % threshold == 0 ? 0 : 1);
+    Node<E>[] segments = (Node<E>[]) new Node<?>[count];
+    int[] lengths = new int[count];
+    Node<E> sorted = null;
+    trailer.getPrev().setNext(null);             // detach the trailer
+    try {
+      Node<E> walk = header.getNext();
+      for (int j = 0; j < count; j++) {          // cut the chain into segments
+        segments[j] = walk;
+        lengths[j] = Math.min(threshold, size - j * threshold);
+        walk = cut(walk, lengths[j]);
+      }
+      sorted = new SortTask<>(segments, lengths, 0, count, c).invoke();
+    } finally {
+      if (sorted != null)
+        relink(sorted);
+      else
+        restoreOrder();                          // the comparator threw
+    }
+  }
+
+  /**
+   * Appends the given number of elements, taken in order from the source.
+   * The new nodes are linked to one another directly and attached before
+   * the trailer at the end, so the list is unchanged if the source throws.
+   * @param count   number of elements to append
+   * @param source  supplier of the elements
+   */
+  void appendAll(int count, Supplier<? extends E> source) {
+    if (count <= 0) return;
+    Node<E> first = new Node<>(source.get(), null, null);
+    first.owner = owner;
+    Node<E> last = first;
+    for (int j = 1; j < count; j++) {
+      Node<E> newest = new Node<>(source.get(), last, null);
+      newest.owner = owner;
+      last.setNext(newest);
+      last = newest;
+    }
+    Node<E> predecessor = trailer.getPrev();
+    predecessor.setNext(first);
+    first.setPrev(predecessor);
+    last.setNext(trailer);
+    trailer.setPrev(last);
+    size += count;
+  }
+
+  /**
+   * Keeps up to the given number of removed nodes for reuse by later
+   * additions, so that a list whose size stays bounded, such as a queue
+   * fed by addLast and drained by removeFirst, stops allocating nodes.
+   * Pooled nodes hold no element.
+   *
+   * Positions stay safe under recycling: each position records the
+   * generation of its node, which every removal advances, so a position
+   * whose element was removed is rejected even after its node has been
+   * reused for a new element.
+   * @param maxPooled  most nodes to keep
+   * @throws IllegalArgumentException if maxPooled is negative
+   */
+  public void enableNodeRecycling(int maxPooled) {
+    if (maxPooled < 0) throw new IllegalArgumentException("Pool capacity must not be negative");
+    poolCapacity = maxPooled;
+    while (pooled > poolCapacity) {              // shrink to the new bound
+      pool = pool.getNext();
+      pooled--;
+    }
+  }
+
+  /** Stops recycling nodes and releases the pooled ones. */
+  public void disableNodeRecycling() {
+    poolCapacity = 0;
+    pool = null;
+    pooled = 0;
+  }
+
+  // package-private node methods, for structures that index the nodes
+  /**
+   * Adds an element to the end of the list and returns its node.
+   * @param e   the new element to add
+   * @return the node storing e
+   */
+  Node<E> addLastNode(E e) {
+    return addBetween(e, trailer.getPrev(), trailer);
+  }
+
+  /**
+   * Moves the given node to the end of the list without allocation.
+   * @param node    a node of this list (must not be a sentinel)
+   */
+  void moveToLast(Node<E> node) {
+    if (node.getNext() == trailer) return;       // already last
+    Node<E> predecessor = node.getPrev();        // unlink
+    Node<E> successor = node.getNext();
+    predecessor.setNext(successor);
+    successor.setPrev(predecessor);
+    Node<E> last = trailer.getPrev();            // relink before the trailer
+    node.setPrev(last);
+    node.setNext(trailer);
+    last.setNext(node);
+    trailer.setPrev(node);
+  }
+
   // private update methods
   /**
    * Adds an element to the linked list in between the given nodes.
@@ -185,26 +651,196 @@ public class DoublyLinkedList<E> {
    *
    * @param predecessor   node just before the location where the new element is inserted
    * @param successor     node just after the location where the new element is inserted
+   * @return the new node
    */
-  private void addBetween(E e, Node<E> predecessor, Node<E> successor) {
-    // create and link a new node
-    Node<E> newest = new Node<>(e, predecessor, successor);
+  private Node<E> addBetween(E e, Node<E> predecessor, Node<E> successor) {
+    // create (or reuse) and link a new node
+    Node<E> newest;
+    if (pool != null) {                          // take a recycled node
+      newest = pool;
+      pool = newest.getNext();
+      pooled--;
+      newest.setElement(e);
+      newest.setPrev(predecessor);
+      newest.setNext(successor);
+    } else {
+      newest = new Node<>(e, predecessor, successor);
+    }
+    newest.owner = owner;
     predecessor.setNext(newest);
     successor.setPrev(newest);
     size++;
+    return newest;
   }
 
   /**
-   * Removes the given node from the list and returns its element.
+   * Removes the given node from the list and returns its element. The
+   * node is cleared, which invalidates it as a position.
    * @param node    the node to be removed (must not be a sentinel)
    */
-  private E remove(Node<E> node) {
+  E remove(Node<E> node) {
     Node<E> predecessor = node.getPrev();
     Node<E> successor = node.getNext();
     predecessor.setNext(successor);
     successor.setPrev(predecessor);
     size--;
-    return node.getElement();
+    E answer = node.getElement();
+    node.setElement(null);                       // help with garbage collection
+    node.setPrev(null);                          // and convention for defunct node
+    node.setNext(null);
+    node.owner = null;
+    node.generation++;                           // retire the node's positions
+    if (pooled < poolCapacity) {                 // keep the node for reuse
+      node.setNext(pool);
+      pool = node;
+      pooled++;
+    }
+    return answer;
+  }
+
+  /** Returns a position of the given node. */
+  private static <E> Position<E> position(Node<E> node) { return new NodePosition<>(node); }
+
+  /**
+   * Validates the position and returns it as a node.
+   * @param p   the position to validate
+   * @return the node of p
+   * @throws IllegalArgumentException if p is not a position of this list
+   */
+  @SuppressWarnings("unchecked")
+  private Node<E> validate(Position<E> p) throws IllegalArgumentException {
+    if (!(p instanceof NodePosition)) throw new IllegalArgumentException("Invalid position");
+    NodePosition<E> position = (NodePosition<E>) p;   // safe cast
+    Node<E> node = position.node;
+    if (!position.isCurrent())                   // the element was removed
+      throw new IllegalArgumentException("Position is no longer in the list");
+    Owner current = node.owner.resolve();
+    if (current != owner) throw new IllegalArgumentException("Position belongs to another list");
+    node.owner = current;                        // skip the forwarding next time
+    return node;
+  }
+
+  /**
+   * Detaches the run of at most n nodes starting at the given node from
+   * the nodes that follow it, by next references only.
+   * @return the first node after the run (or null if none)
+   */
+  private static <E> Node<E> cut(Node<E> run, long n) {
+    for (long j = 1; run != null && j < n; j++)
+      run = run.getNext();
+    if (run == null) return null;
+    Node<E> rest = run.getNext();
+    run.setNext(null);
+    return rest;
+  }
+
+  /**
+   * Merges two sorted runs after the given node by next references,
+   * taking from the left run on ties so that the sort is stable.
+   * @return the last node of the merged run
+   */
+  private static <E> Node<E> merge(Node<E> left, Node<E> right, Node<E> last,
+                                   Comparator<? super E> c) {
+    while (left != null && right != null) {
+      if (c.compare(left.getElement(), right.getElement()) <= 0) {
+        last.setNext(left);
+        left = left.getNext();
+      } else {
+        last.setNext(right);
+        right = right.getNext();
+      }
+      last = last.getNext();
+    }
+    last.setNext(left != null ? left : right);   // append the remaining run
+    while (last.getNext() != null)
+      last = last.getNext();
+    return last;
+  }
+
+  /**
+   * Sorts a null-terminated chain of n nodes by next references, with a
+   * bottom-up merge sort.
+   * @return the first node of the sorted chain
+   */
+  private static <E> Node<E> sortChain(Node<E> first, long n, Comparator<? super E> c) {
+    Node<E> front = new Node<>(null, null, first);   // temporary node before the chain
+    for (long width = 1; width < n; width *= 2) {   // merge runs of width nodes
+      Node<E> last = front;                      // last node of the merged output
+      Node<E> walk = front.getNext();
+      while (walk != null) {
+        Node<E> left = walk;
+        Node<E> right = cut(left, width);
+        walk = cut(right, width);
+        last = merge(left, right, last, c);
+      }
+    }
+    return front.getNext();
+  }
+
+  /**
+   * Restores the next references of the list from its previous references,
+   * which a sort leaves untouched until it succeeds, so that a failed sort
+   * leaves the list as it was.
+   */
+  private void restoreOrder() {
+    Node<E> successor = trailer;
+    for (Node<E> walk = trailer.getPrev(); walk != header; walk = walk.getPrev()) {
+      walk.setNext(successor);
+      successor = walk;
+    }
+    header.setNext(successor);
+  }
+
+  /**
+   * Attaches the given null-terminated chain between the sentinels,
+   * restoring the previous references of its nodes.
+   * @param first  first node of the chain
+   */
+  private void relink(Node<E> first) {
+    Node<E> prev = header;
+    for (Node<E> walk = first; walk != null; walk = walk.getNext()) {
+      walk.setPrev(prev);
+      prev.setNext(walk);
+      prev = walk;
+    }
+    prev.setNext(trailer);                       // reattach the trailer
+    trailer.setPrev(prev);
+  }
+
+  /**
+   * Writes the contents of the list to the given destination in the
+   * format of toString, one element at a time, so that no string holding
+   * the whole list is ever built.
+   * @param out  destination of the characters
+   * @throws IOException if out does
+   */
+  public void writeTo(Appendable out) throws IOException {
+    writeTo(out, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Writes at most the given number of elements of the list to the given
+   * destination, in the format of toString. If elements remain, "..." is
+   * written in their place.
+   * @param out          destination of the characters
+   * @param maxElements  maximum number of elements to write
+   * @throws IOException if out does
+   * @throws IllegalArgumentException if maxElements is negative
+   */
+  public void writeTo(Appendable out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("maxElements must not be negative");
+    out.append('(');
+    int count = 0;
+    for (Node<E> walk = header.getNext(); walk != trailer; walk = walk.getNext(), count++) {
+      if (count > 0)
+        out.append(", ");
+      if (count == maxElements) {
+        out.append("...");
+        break;
+      }
+      out.append(String.valueOf(walk.getElement()));
+    }
+    out.append(')');
   }
 
   /**
@@ -212,15 +848,22 @@ public class DoublyLinkedList<E> {
    * This exists for debugging purposes only.
    */
   public String toString() {
-    StringBuilder sb = new StringBuilder("(");
-    Node<E> walk = header.getNext();
-    while (walk != trailer) {
-      sb.append(walk.getElement());
-      walk = walk.getNext();
-      if (walk != trailer)
-        sb.append(", ");
+    return toString(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Produces a string representation of at most the given number of
+   * elements of the list, followed by "..." if elements remain.
+   * @param maxElements  maximum number of elements to include
+   * @throws IllegalArgumentException if maxElements is negative
+   */
+  public String toString(int maxElements) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      writeTo(sb, maxElements);
+    } catch (IOException e) {                 // a StringBuilder never throws
+      throw new UncheckedIOException(e);
     }
-    sb.append(")");
     return sb.toString();
   }
   
@@ -251,7 +894,18 @@ public class DoublyLinkedList<E> {
 	  }
 	  
 	  // Return the new list
-	  return newList;	  
+	  return newList;
+  }
+
+  /**
+   * Destructive counterpart of concatenateLists that runs in constant time:
+   * the nodes of list2 are relinked onto the end of list1 and list2 is emptied.
+   * @return list1, now holding the elements of both lists
+   */
+  public static <E> DoublyLinkedList<E> concatenateInPlace(DoublyLinkedList<E> list1, DoublyLinkedList<E> list2)
+  {
+	  list1.spliceAppend(list2);
+	  return list1;
   }
   
 //main method
@@ -286,6 +940,11 @@ public class DoublyLinkedList<E> {
 	  // Checking if list1 and list2 are intact
 	  System.out.println(list1);
 	  System.out.println(list2);
+	  
+	  // Splicing list2 onto list1 without copying (list2 is emptied)
+	  DoublyLinkedList<String> list4 = concatenateInPlace(list1, list2);
+	  System.out.println(list4);
+	  System.out.println(list2);
 	  //
   }
 } //----------- end of DoublyLinkedList class -----------
@@ -0,0 +1,430 @@
+package linkedlists;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * A list with positional access in O(log n) expected time, kept as a
+ * skip list whose bottom level is a singly linked list of all elements,
+ * as in {@link SinglyLinkedList}. About one node in four also belongs to
+ * the next level up, and so on, and each link above the bottom level
+ * records its width: the number of bottom-level steps it skips. A search
+ * for index i runs along the highest level while the widths do not pass
+ * i, then drops a level, which gives get, set, insertAt and removeAt in
+ * O(log n) expected time.
+ *
+ * The list also keeps the first and last node of each level. Their
+ * indices are stored relative to a common offset, which addFirst and
+ * removeFirst move by one instead of renumbering every level, so that
+ * addFirst, addLast and removeFirst touch only the levels of the node
+ * they add or remove, and run in O(1) expected time.
+ */
+public class IndexedSkipList<E> {
+
+  /** Most levels of the list (enough for 4^16 elements) */
+  private static final int MAX_LEVEL = 16;
+
+  //---------------- nested Node class ----------------
+  /**
+   * Node of the skip list, which stores its element, the next node on
+   * the bottom level, and its links and their widths on the levels above.
+   */
+  private static class Node<E> {
+
+    /** The element stored at this node */
+    private E element;
+
+    /** The subsequent node on the bottom level */
+    private Node<E> next;
+
+    /** The subsequent node on each level above the bottom (null if none) */
+    private Node<E>[] links;
+
+    /** The width of each link above the bottom level */
+    private int[] widths;
+
+    /**
+     * Creates a node with the given element on the given number of levels.
+     * @param e       the element to be stored
+     * @param height  number of levels the node belongs to
+     */
+    public Node(E e, int height) {
+      element = e;
+      if (height > 1) {
+        links = newNodes(height - 1);
+        widths = new int[height - 1];
+      }
+    }
+
+    /** @return number of levels the node belongs to */
+    public int height() { return (links == null) ? 1 : links.length + 1; }
+
+    /** @return the subsequent node on the given level (or null if none) */
+    public Node<E> getNext(int level) { return (level == 0) ? next : links[level - 1]; }
+
+    /** @return the number of bottom-level steps to the subsequent node on the given level */
+    public int getWidth(int level) { return (level == 0) ? 1 : widths[level - 1]; }
+
+    public void setNext(int level, Node<E> n) {
+      if (level == 0) next = n;
+      else links[level - 1] = n;
+    }
+
+    public void setWidth(int level, int w) {
+      if (level > 0) widths[level - 1] = w;       // always 1 on the bottom level
+    }
+  } //----------- end of nested Node class -----------
+
+  // instance variables of the IndexedSkipList
+  /** First node on each level (null on unused levels) */
+  private final Node<E>[] first;
+
+  /** Last node on each level (null on unused levels) */
+  private final Node<E>[] last;
+
+  /** Index of the first node on each level, less the offset */
+  private final long[] firstIndex = new long[MAX_LEVEL];
+
+  /** Index of the last node on each level, less the offset */
+  private final long[] lastIndex = new long[MAX_LEVEL];
+
+  /** Amount added to every stored index */
+  private long offset = 0;
+
+  /** Number of levels in use */
+  private int levels = 0;
+
+  /** Number of elements in the list */
+  private int size = 0;
+
+  /** Constructs an initially empty list. */
+  public IndexedSkipList() {
+    first = newNodes(MAX_LEVEL);
+    last = newNodes(MAX_LEVEL);
+  }
+
+  // access methods
+  /**
+   * Returns the number of elements in the list.
+   * @return number of elements in the list
+   */
+  public int size() { return size; }
+
+  /**
+   * Tests whether the list is empty.
+   * @return true if the list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list.
+   * @return element at the front of the list (or null if empty)
+   */
+  public E first() {
+    if (isEmpty()) return null;
+    return first[0].element;
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list.
+   * @return element at the end of the list (or null if empty)
+   */
+  public E last() {
+    if (isEmpty()) return null;
+    return last[0].element;
+  }
+
+  /**
+   * Returns the element at the given index.
+   * @param i  index of the element
+   * @return the element at index i
+   * @throws IndexOutOfBoundsException if i is not in [0, size)
+   */
+  public E get(int i) {
+    checkIndex(i, size);
+    return find(i).element;
+  }
+
+  /**
+   * Performs the given action on each element of the list, in order.
+   * @param action  the action to perform
+   */
+  public void forEach(Consumer<? super E> action) {
+    for (Node<E> walk = first[0]; walk != null; walk = walk.next)
+      action.accept(walk.element);
+  }
+
+  // update methods
+  /**
+   * Replaces the element at the given index.
+   * @param i  index of the element
+   * @param e  the new element
+   * @return the element formerly at index i
+   * @throws IndexOutOfBoundsException if i is not in [0, size)
+   */
+  public E set(int i, E e) {
+    checkIndex(i, size);
+    Node<E> node = find(i);
+    E answer = node.element;
+    node.element = e;
+    return answer;
+  }
+
+  /**
+   * Adds an element to the front of the list.
+   * @param e  the new element to add
+   */
+  public void addFirst(E e) {
+    Node<E> newest = new Node<>(e, randomHeight());
+    offset++;                                     // every other index grows by one
+    for (int level = 0; level < newest.height(); level++) {
+      Node<E> old = first[level];
+      if (old != null) {
+        newest.setNext(level, old);
+        newest.setWidth(level, (int) (firstIndex[level] + offset));
+      } else {                                    // newest is alone on this level
+        last[level] = newest;
+        lastIndex[level] = -offset;
+      }
+      first[level] = newest;
+      firstIndex[level] = -offset;                // index 0
+    }
+    levels = Math.max(levels, newest.height());
+    size++;
+  }
+
+  /**
+   * Adds an element to the end of the list.
+   * @param e  the new element to add
+   */
+  public void addLast(E e) {
+    Node<E> newest = new Node<>(e, randomHeight());
+    for (int level = 0; level < newest.height(); level++) {
+      Node<E> old = last[level];
+      if (old != null) {
+        old.setNext(level, newest);
+        old.setWidth(level, (int) (size - (lastIndex[level] + offset)));
+      } else {                                    // newest is alone on this level
+        first[level] = newest;
+        firstIndex[level] = size - offset;
+      }
+      last[level] = newest;
+      lastIndex[level] = size - offset;
+    }
+    levels = Math.max(levels, newest.height());
+    size++;
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element (or null if empty)
+   */
+  public E removeFirst() {
+    if (isEmpty()) return null;                   // nothing to remove
+    Node<E> old = first[0];
+    offset--;                                     // every other index shrinks by one
+    for (int level = 0; level < old.height(); level++) {
+      Node<E> successor = old.getNext(level);
+      first[level] = successor;
+      if (successor != null)
+        firstIndex[level] = old.getWidth(level) - 1 - offset;
+      else
+        last[level] = null;                       // the level is now empty
+    }
+    shrinkLevels();
+    size--;
+    return old.element;
+  }
+
+  /**
+   * Inserts an element at the given index, shifting the elements from
+   * that index onwards back by one.
+   * @param i  index of the new element
+   * @param e  the new element
+   * @throws IndexOutOfBoundsException if i is not in [0, size]
+   */
+  public void insertAt(int i, E e) {
+    checkIndex(i, size + 1);
+    if (i == 0) {
+      addFirst(e);
+      return;
+    }
+    if (i == size) {
+      addLast(e);
+      return;
+    }
+    Node<E> newest = new Node<>(e, randomHeight());
+    int height = newest.height();
+    Node<E>[] pred = newNodes(MAX_LEVEL);
+    long[] predIndex = new long[MAX_LEVEL];
+    findPredecessors(i, pred, predIndex);
+    for (int level = 0; level < levels; level++) {   // nodes from index i move back
+      if (index(firstIndex, level) >= i) firstIndex[level]++;
+      if (index(lastIndex, level) >= i) lastIndex[level]++;
+    }
+    for (int level = 0; level < Math.max(levels, height); level++) {
+      Node<E> p = pred[level];
+      if (level >= height) {                      // newest is not on this level
+        if (p != null && p.getNext(level) != null)
+          p.setWidth(level, p.getWidth(level) + 1);
+      } else if (p == null) {                     // newest comes first on this level
+        Node<E> old = first[level];
+        if (old != null) {
+          newest.setNext(level, old);
+          newest.setWidth(level, (int) (index(firstIndex, level) - i));
+        } else {
+          last[level] = newest;
+          lastIndex[level] = i - offset;
+        }
+        first[level] = newest;
+        firstIndex[level] = i - offset;
+      } else {                                    // newest follows p on this level
+        Node<E> old = p.getNext(level);
+        if (old != null) {
+          newest.setNext(level, old);
+          newest.setWidth(level, (int) (predIndex[level] + p.getWidth(level) + 1 - i));
+        } else {
+          last[level] = newest;
+          lastIndex[level] = i - offset;
+        }
+        p.setNext(level, newest);
+        p.setWidth(level, (int) (i - predIndex[level]));
+      }
+    }
+    levels = Math.max(levels, height);
+    size++;
+  }
+
+  /**
+   * Removes and returns the element at the given index, shifting the
+   * elements after it forward by one.
+   * @param i  index of the element
+   * @return the removed element
+   * @throws IndexOutOfBoundsException if i is not in [0, size)
+   */
+  public E removeAt(int i) {
+    checkIndex(i, size);
+    if (i == 0) return removeFirst();
+    Node<E>[] pred = newNodes(MAX_LEVEL);
+    long[] predIndex = new long[MAX_LEVEL];
+    findPredecessors(i, pred, predIndex);
+    Node<E> old = pred[0].next;                   // i > 0, so old has a predecessor
+    int height = old.height();
+    for (int level = 0; level < levels; level++) {   // nodes after index i move forward
+      if (first[level] != old && index(firstIndex, level) > i) firstIndex[level]--;
+      if (last[level] != old && index(lastIndex, level) > i) lastIndex[level]--;
+    }
+    for (int level = 0; level < levels; level++) {
+      Node<E> p = pred[level];
+      if (level >= height) {                      // old is not on this level
+        if (p != null && p.getNext(level) != null)
+          p.setWidth(level, p.getWidth(level) - 1);
+        continue;
+      }
+      Node<E> successor = old.getNext(level);
+      if (p == null) {                            // old was first on this level
+        first[level] = successor;
+        if (successor != null)
+          firstIndex[level] = i + old.getWidth(level) - 1 - offset;
+      } else {
+        p.setNext(level, successor);
+        if (successor != null)
+          p.setWidth(level, p.getWidth(level) + old.getWidth(level) - 1);
+      }
+      if (successor == null) {                    // old was last on this level
+        last[level] = p;
+        if (p != null)
+          lastIndex[level] = predIndex[level] - offset;
+      }
+    }
+    shrinkLevels();
+    size--;
+    return old.element;
+  }
+
+  // private utilities
+  /** Returns the node at the given valid index. */
+  private Node<E> find(int i) {
+    Node<E> walk = null;                          // null stands for the front of the list
+    long position = -1;
+    for (int level = levels - 1; level >= 0; level--) {
+      if (walk == null && index(firstIndex, level) <= i) {
+        walk = first[level];
+        position = index(firstIndex, level);
+      }
+      if (walk != null)
+        while (walk.getNext(level) != null && position + walk.getWidth(level) <= i) {
+          position += walk.getWidth(level);
+          walk = walk.getNext(level);
+        }
+    }
+    return walk;
+  }
+
+  /**
+   * Records, for each level in use, the last node before the given index
+   * (or null if there is none) and its index.
+   */
+  private void findPredecessors(int i, Node<E>[] pred, long[] predIndex) {
+    Node<E> walk = null;                          // null stands for the front of the list
+    long position = -1;
+    for (int level = levels - 1; level >= 0; level--) {
+      if (walk == null && index(firstIndex, level) < i) {
+        walk = first[level];
+        position = index(firstIndex, level);
+      }
+      if (walk != null)
+        while (walk.getNext(level) != null && position + walk.getWidth(level) < i) {
+          position += walk.getWidth(level);
+          walk = walk.getNext(level);
+        }
+      pred[level] = walk;
+      predIndex[level] = position;
+    }
+  }
+
+  /** Returns the actual index stored for the given level. */
+  private long index(long[] stored, int level) { return stored[level] + offset; }
+
+  /** Drops empty levels from the top. */
+  private void shrinkLevels() {
+    while (levels > 0 && first[levels - 1] == null)
+      levels--;
+  }
+
+  /** Returns an array of the given number of node references. */
+  @SuppressWarnings("unchecked")
+  private static <E> Node<E>[] newNodes(int n) { return (Node<E>[]) new Node<?>[n]; }
+
+  /** Returns a random height, each level above the first with probability 1/4. */
+  private static int randomHeight() {
+    int bits = ThreadLocalRandom.current().nextInt();
+    int height = 1;
+    while (height < MAX_LEVEL && (bits & 3) == 0) {
+      height++;
+      bits >>>= 2;
+    }
+    return height;
+  }
+
+  /** Throws IndexOutOfBoundsException unless 0 <= i < bound. */
+  private void checkIndex(int i, int bound) {
+    if (i < 0 || i >= bound)
+      throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+  }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    for (Node<E> walk = first[0]; walk != null; walk = walk.next) {
+      sb.append(walk.element);
+      if (walk.next != null)
+        sb.append(", ");
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+}
@@ -0,0 +1,205 @@
+package linkedlists;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A circularly linked list of primitive int values. Nodes are slots of two
+ * parallel arrays (the element and the index of the next node), and only
+ * the tail is stored, as in {@link CircularlyLinkedList}. Slots of removed
+ * nodes are kept on a free list and reused, so adds, removes and rotations
+ * do not allocate once the arrays have grown to the working size.
+ */
+public class IntCircularlyLinkedList {
+
+  /** Index designating the absence of a node */
+  private static final int NIL = -1;
+
+  /** Number of node slots allocated by the default constructor */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** Most node slots the arrays may hold (the largest array length every VM allows) */
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  // instance variables of the IntCircularlyLinkedList
+  /** The element stored at each node slot */
+  private int[] elements;
+
+  /** The index of the subsequent node of each slot */
+  private int[] next;
+
+  /** The designated cursor of the list */
+  private int tail = NIL;                       // we store tail (but not head)
+
+  /** Index of the first unused slot on the free list */
+  private int free = NIL;                       // chained through next[]
+
+  /** Number of slots ever handed out (slots beyond this were never used) */
+  private int used = 0;
+
+  /** Number of nodes in the list */
+  private int size = 0;                         // number of nodes in the list
+
+  /** Constructs an initially empty list. */
+  public IntCircularlyLinkedList() { this(DEFAULT_CAPACITY); }
+
+  /**
+   * Constructs an initially empty list with room for the given number of
+   * elements before the node arrays need to grow.
+   * @param capacity  initial number of node slots
+   */
+  public IntCircularlyLinkedList(int capacity) {
+    elements = new int[Math.min(Math.max(capacity, 1), MAX_CAPACITY)];
+    next = new int[elements.length];
+  }
+
+  // access methods
+  /**
+   * Returns the number of elements in the linked list.
+   * @return number of elements in the linked list
+   */
+  public int size() { return size; }
+
+  /**
+   * Tests whether the linked list is empty.
+   * @return true if the linked list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list
+   * @return element at the front of the list
+   * @throws NoSuchElementException if the list is empty
+   */
+  public int first() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return elements[next[tail]];                // the head is *after* the tail
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list
+   * @return element at the back of the list
+   * @throws NoSuchElementException if the list is empty
+   */
+  public int last() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return elements[tail];
+  }
+
+  // update methods
+  /**
+   * Rotate the first element to the back of the list.
+   */
+  public void rotate() {
+    if (tail != NIL)                 // if empty, do nothing
+      tail = next[tail];             // the old head becomes the new tail
+  }
+
+  /**
+   * Adds an element to the front of the list.
+   * @param e  the new element to add
+   * @throws IllegalStateException if the list already holds the most elements it can
+   */
+  public void addFirst(int e) {
+    int newest;
+    if (free != NIL) {                       // reuse a released slot
+      newest = free;
+      free = next[newest];
+    } else {
+      if (used == elements.length) {         // double the capacity, up to the limit
+        if (used == MAX_CAPACITY) throw new IllegalStateException("List is full");
+        int capacity = (int) Math.min(2L * used, MAX_CAPACITY);
+        elements = Arrays.copyOf(elements, capacity);
+        next = Arrays.copyOf(next, capacity);
+      }
+      newest = used++;
+    }
+    elements[newest] = e;
+    if (size == 0) {
+      tail = newest;
+      next[tail] = tail;                     // link to itself circularly
+    } else {
+      next[newest] = next[tail];
+      next[tail] = newest;
+    }
+    size++;
+  }
+
+  /**
+   * Adds an element to the end of the list.
+   * @param e  the new element to add
+   * @throws IllegalStateException if the list already holds the most elements it can
+   */
+  public void addLast(int e) {
+    addFirst(e);             // insert new element at front of list
+    tail = next[tail];       // now new element becomes the tail
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element
+   * @throws NoSuchElementException if the list is empty
+   */
+  public int removeFirst() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    int head = next[tail];
+    if (head == tail) tail = NIL;            // must be the only node left
+    else next[tail] = next[head];            // removes "head" from the list
+    next[head] = free;                       // return the slot to the free list
+    free = head;
+    size--;
+    return elements[head];
+  }
+
+  /**
+   * Two circular lists are equal if they hold the same elements starting
+   * from their current heads.
+   */
+  public boolean equals(Object o) {
+    if (o == null) return false;
+    if (getClass() != o.getClass()) return false;
+    IntCircularlyLinkedList other = (IntCircularlyLinkedList) o;
+    if (size != other.size) return false;
+    int walkA = tail;                                // traverse the primary list
+    int walkB = other.tail;                          // traverse the secondary list
+    for (int j = 0; j < size; j++) {
+      walkA = next[walkA];
+      walkB = other.next[walkB];
+      if (elements[walkA] != other.elements[walkB]) return false;   // mismatch
+    }
+    return true;   // if we reach this, everything matched successfully
+  }
+
+  /**
+   * Returns a hash code computed like that of {@link SinglyLinkedList},
+   * walking from the current head.
+   */
+  public int hashCode() {
+    int h = 0;
+    int walk = tail;
+    for (int j = 0; j < size; j++) {
+      walk = next[walk];
+      h ^= elements[walk];                    // bitwise exclusive-or with element's code
+      h = (h << 5) | (h >>> 27);              // 5-bit cyclic shift of composite code
+    }
+    return h;
+  }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    if (tail == NIL) return "()";
+    StringBuilder sb = new StringBuilder("(");
+    int walk = tail;
+    do {
+      walk = next[walk];
+      sb.append(elements[walk]);
+      if (walk != tail)
+        sb.append(", ");
+    } while (walk != tail);
+    sb.append(")");
+    return sb.toString();
+  }
+}
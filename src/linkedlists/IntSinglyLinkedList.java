@@ -0,0 +1,224 @@
+package linkedlists;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A singly linked list of primitive int values. Nodes are slots of two
+ * parallel arrays (the element and the index of the next node), so no
+ * element is ever boxed. Slots of removed nodes are kept on a free list
+ * and reused, so adds and removes do not allocate once the arrays have
+ * grown to the working size of the list.
+ */
+public class IntSinglyLinkedList implements Cloneable {
+
+  /** Index designating the absence of a node */
+  private static final int NIL = -1;
+
+  /** Number of node slots allocated by the default constructor */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** Most node slots the arrays may hold (the largest array length every VM allows) */
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  // instance variables of the IntSinglyLinkedList
+  /** The element stored at each node slot */
+  private int[] elements;
+
+  /** The index of the subsequent node of each slot (or NIL) */
+  private int[] next;
+
+  /** Index of the head node of the list */
+  private int head = NIL;                    // head node of the list (or NIL if empty)
+
+  /** Index of the last node of the list */
+  private int tail = NIL;                    // last node of the list (or NIL if empty)
+
+  /** Index of the first unused slot on the free list */
+  private int free = NIL;                    // chained through next[]
+
+  /** Number of slots ever handed out (slots beyond this were never used) */
+  private int used = 0;
+
+  /** Number of nodes in the list */
+  private int size = 0;                      // number of nodes in the list
+
+  /** Constructs an initially empty list. */
+  public IntSinglyLinkedList() { this(DEFAULT_CAPACITY); }
+
+  /**
+   * Constructs an initially empty list with room for the given number of
+   * elements before the node arrays need to grow.
+   * @param capacity  initial number of node slots
+   */
+  public IntSinglyLinkedList(int capacity) {
+    elements = new int[Math.min(Math.max(capacity, 1), MAX_CAPACITY)];
+    next = new int[elements.length];
+  }
+
+  // access methods
+  /**
+   * Returns the number of elements in the linked list.
+   * @return number of elements in the linked list
+   */
+  public int size() { return size; }
+
+  /**
+   * Tests whether the linked list is empty.
+   * @return true if the linked list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list
+   * @return element at the front of the list
+   * @throws NoSuchElementException if the list is empty
+   */
+  public int first() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return elements[head];
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list.
+   * @return element at the end of the list
+   * @throws NoSuchElementException if the list is empty
+   */
+  public int last() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return elements[tail];
+  }
+
+  // update methods
+  /**
+   * Adds an element to the front of the list.
+   * @param e  the new element to add
+   * @throws IllegalStateException if the list already holds the most elements it can
+   */
+  public void addFirst(int e) {
+    head = allocate(e, head);                // create and link a new node
+    if (size == 0)
+      tail = head;                           // special case: new node becomes tail also
+    size++;
+  }
+
+  /**
+   * Adds an element to the end of the list.
+   * @param e  the new element to add
+   * @throws IllegalStateException if the list already holds the most elements it can
+   */
+  public void addLast(int e) {
+    int newest = allocate(e, NIL);           // node will eventually be the tail
+    if (isEmpty())
+      head = newest;                         // special case: previously empty list
+    else
+      next[tail] = newest;                   // new node after existing tail
+    tail = newest;                           // new node becomes the tail
+    size++;
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element
+   * @throws NoSuchElementException if the list is empty
+   */
+  public int removeFirst() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    int old = head;
+    int answer = elements[old];
+    head = next[old];                        // will become NIL if list had only one node
+    next[old] = free;                        // return the slot to the free list
+    free = old;
+    size--;
+    if (size == 0)
+      tail = NIL;                            // special case as list is now empty
+    return answer;
+  }
+
+  /**
+   * Returns a slot holding the given element and next index, taken from
+   * the free list if possible and growing the arrays otherwise.
+   */
+  private int allocate(int e, int n) {
+    int slot;
+    if (free != NIL) {                       // reuse a released slot
+      slot = free;
+      free = next[slot];
+    } else {
+      if (used == elements.length) {         // double the capacity, up to the limit
+        if (used == MAX_CAPACITY) throw new IllegalStateException("List is full");
+        int capacity = (int) Math.min(2L * used, MAX_CAPACITY);
+        elements = Arrays.copyOf(elements, capacity);
+        next = Arrays.copyOf(next, capacity);
+      }
+      slot = used++;
+    }
+    elements[slot] = e;
+    next[slot] = n;
+    return slot;
+  }
+
+  public boolean equals(Object o) {
+    if (o == null) return false;
+    if (getClass() != o.getClass()) return false;
+    IntSinglyLinkedList other = (IntSinglyLinkedList) o;
+    if (size != other.size) return false;
+    int walkA = head;                                // traverse the primary list
+    int walkB = other.head;                          // traverse the secondary list
+    while (walkA != NIL) {
+      if (elements[walkA] != other.elements[walkB]) return false;   // mismatch
+      walkA = next[walkA];
+      walkB = other.next[walkB];
+    }
+    return true;   // if we reach this, everything matched successfully
+  }
+
+  /**
+   * Returns an independent copy of the list whose nodes are compacted
+   * into consecutive slots.
+   */
+  public IntSinglyLinkedList clone() throws CloneNotSupportedException {
+    IntSinglyLinkedList other = (IntSinglyLinkedList) super.clone();
+    other.elements = new int[Math.max(size, 1)];
+    other.next = new int[other.elements.length];
+    int j = 0;
+    for (int walk = head; walk != NIL; walk = next[walk], j++) {
+      other.elements[j] = elements[walk];
+      other.next[j] = j + 1;
+    }
+    other.head = (size == 0) ? NIL : 0;
+    other.tail = size - 1;                   // NIL when empty
+    if (size > 0) other.next[other.tail] = NIL;
+    other.free = NIL;
+    other.used = size;
+    return other;
+  }
+
+  /**
+   * Returns the same hash code as a {@link SinglyLinkedList} of the
+   * corresponding Integer values.
+   */
+  public int hashCode() {
+    int h = 0;
+    for (int walk = head; walk != NIL; walk = next[walk]) {
+      h ^= elements[walk];                    // bitwise exclusive-or with element's code
+      h = (h << 5) | (h >>> 27);              // 5-bit cyclic shift of composite code
+    }
+    return h;
+  }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    for (int walk = head; walk != NIL; walk = next[walk]) {
+      sb.append(elements[walk]);
+      if (walk != tail)
+        sb.append(", ");
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+}
@@ -0,0 +1,214 @@
+package linkedlists;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A versioned binary format for {@link SinglyLinkedList},
+ * {@link DoublyLinkedList} and {@link CircularlyLinkedList}. A stream
+ * holds a magic number, a format version, the number of elements and
+ * then each element, first to last, as written by a pluggable
+ * {@link ElementCodec}. The three list types share the format, so a list
+ * written from one kind may be read back as another.
+ *
+ * Reading links the nodes of the new list directly rather than calling
+ * addLast for each element. Buffering is left to the DataInput and
+ * DataOutput supplied by the caller.
+ */
+public class ListCodec<E> {
+
+  //---------------- nested ElementCodec interface ----------------
+  /** Writes and reads single elements of a list. */
+  public interface ElementCodec<E> {
+    /**
+     * Writes one element.
+     * @param out  destination of the bytes
+     * @param e    the element to write
+     * @throws IOException if out does
+     */
+    void write(DataOutput out, E e) throws IOException;
+
+    /**
+     * Reads one element written by {@link #write}.
+     * @param in  source of the bytes
+     * @return the element read
+     * @throws IOException if in does
+     */
+    E read(DataInput in) throws IOException;
+  } //----------- end of nested ElementCodec interface -----------
+
+  /** Codec for non-null Integer elements, as 4-byte big-endian values */
+  public static final ElementCodec<Integer> INTEGERS = new ElementCodec<>() {
+    public void write(DataOutput out, Integer e) throws IOException { out.writeInt(e); }
+    public Integer read(DataInput in) throws IOException { return in.readInt(); }
+  };
+
+  /** Codec for non-null Long elements, as 8-byte big-endian values */
+  public static final ElementCodec<Long> LONGS = new ElementCodec<>() {
+    public void write(DataOutput out, Long e) throws IOException { out.writeLong(e); }
+    public Long read(DataInput in) throws IOException { return in.readLong(); }
+  };
+
+  /** Codec for non-null String elements of up to 65535 bytes in modified UTF-8 */
+  public static final ElementCodec<String> STRINGS = new ElementCodec<>() {
+    public void write(DataOutput out, String e) throws IOException { out.writeUTF(e); }
+    public String read(DataInput in) throws IOException { return in.readUTF(); }
+  };
+
+  /** Number at the start of every stream ("LLST") */
+  static final int MAGIC = 0x4C4C5354;
+
+  /** Version of the format written by this class */
+  static final int VERSION = 1;
+
+  // instance variables of the ListCodec
+  /** The codec of the individual elements */
+  private final ElementCodec<E> elements;
+
+  /**
+   * Constructs a codec for lists whose elements use the given codec.
+   * @param elements  the codec of the individual elements
+   */
+  public ListCodec(ElementCodec<E> elements) {
+    if (elements == null) throw new NullPointerException("Element codec is required");
+    this.elements = elements;
+  }
+
+  // write methods
+  /**
+   * Writes the given list.
+   * @param list  the list to write
+   * @param out   destination of the bytes
+   * @throws IOException if out or the element codec does
+   */
+  public void write(SinglyLinkedList<? extends E> list, DataOutput out) throws IOException {
+    writeHeader(list.size(), out);
+    writeEach(list::forEach, out);
+  }
+
+  /**
+   * Writes the given list.
+   * @param list  the list to write
+   * @param out   destination of the bytes
+   * @throws IOException if out or the element codec does
+   */
+  public void write(DoublyLinkedList<? extends E> list, DataOutput out) throws IOException {
+    writeHeader(list.size(), out);
+    writeEach(list::forEach, out);
+  }
+
+  /**
+   * Writes the given list, starting from its current first element.
+   * @param list  the list to write
+   * @param out   destination of the bytes
+   * @throws IOException if out or the element codec does
+   */
+  public void write(CircularlyLinkedList<? extends E> list, DataOutput out) throws IOException {
+    writeHeader(list.size(), out);
+    writeEach(list::forEach, out);
+  }
+
+  // read methods
+  /**
+   * Reads a list as a SinglyLinkedList.
+   * @param in  source of the bytes
+   * @return the list read
+   * @throws IOException if in or the element codec does, or the stream is not in this format
+   */
+  public SinglyLinkedList<E> readSingly(DataInput in) throws IOException {
+    SinglyLinkedList<E> list = new SinglyLinkedList<>();
+    int n = readHeader(in);
+    try {
+      list.appendAll(n, reader(in));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return list;
+  }
+
+  /**
+   * Reads a list as a DoublyLinkedList.
+   * @param in  source of the bytes
+   * @return the list read
+   * @throws IOException if in or the element codec does, or the stream is not in this format
+   */
+  public DoublyLinkedList<E> readDoubly(DataInput in) throws IOException {
+    DoublyLinkedList<E> list = new DoublyLinkedList<>();
+    int n = readHeader(in);
+    try {
+      list.appendAll(n, reader(in));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return list;
+  }
+
+  /**
+   * Reads a list as a CircularlyLinkedList.
+   * @param in  source of the bytes
+   * @return the list read
+   * @throws IOException if in or the element codec does, or the stream is not in this format
+   */
+  public CircularlyLinkedList<E> readCircularly(DataInput in) throws IOException {
+    CircularlyLinkedList<E> list = new CircularlyLinkedList<>();
+    int n = readHeader(in);
+    try {
+      list.appendAll(n, reader(in));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return list;
+  }
+
+  // private utilities
+  /** Writes the magic number, version and element count. */
+  private static void writeHeader(int size, DataOutput out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeByte(VERSION);
+    out.writeInt(size);
+  }
+
+  /**
+   * Reads and checks the magic number and version.
+   * @return the element count
+   */
+  private static int readHeader(DataInput in) throws IOException {
+    if (in.readInt() != MAGIC) throw new StreamCorruptedException("Not a list stream");
+    int version = in.readUnsignedByte();
+    if (version != VERSION) throw new StreamCorruptedException("Unsupported list format version " + version);
+    int n = in.readInt();
+    if (n < 0) throw new StreamCorruptedException("Negative element count " + n);
+    return n;
+  }
+
+  /** Writes every element visited by the given traversal. */
+  private void writeEach(Consumer<Consumer<E>> traversal, DataOutput out) throws IOException {
+    try {
+      traversal.accept(e -> {
+        try {
+          elements.write(out, e);
+        } catch (IOException x) {
+          throw new UncheckedIOException(x);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /** Returns a supplier reading successive elements from the input. */
+  private Supplier<E> reader(DataInput in) {
+    return () -> {
+      try {
+        return elements.read(in);
+      } catch (IOException x) {
+        throw new UncheckedIOException(x);
+      }
+    };
+  }
+}
@@ -0,0 +1,231 @@
+package linkedlists;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly linked list of primitive long values. Nodes are slots of three
+ * parallel arrays (the element and the indices of the previous and next
+ * nodes), with the header and trailer sentinels at fixed slots. Slots of
+ * removed nodes are kept on a free list and reused, so adds and removes
+ * do not allocate once the arrays have grown to the working size.
+ */
+public class LongDoublyLinkedList {
+
+  /** Index designating the absence of a node */
+  private static final int NIL = -1;
+
+  /** Slot of the header sentinel */
+  private static final int HEADER = 0;
+
+  /** Slot of the trailer sentinel */
+  private static final int TRAILER = 1;
+
+  /** Number of element slots allocated by the default constructor */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** Most node slots the arrays may hold (the largest array length every VM allows) */
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  // instance variables of the LongDoublyLinkedList
+  /** The element stored at each node slot */
+  private long[] elements;
+
+  /** The index of the preceding node of each slot */
+  private int[] prev;
+
+  /** The index of the subsequent node of each slot */
+  private int[] next;
+
+  /** Index of the first unused slot on the free list */
+  private int free = NIL;                    // chained through next[]
+
+  /** Number of slots ever handed out, including the sentinels */
+  private int used = 2;
+
+  /** Number of elements in the list (not including sentinels) */
+  private int size = 0;                      // number of elements in the list
+
+  /** Constructs a new empty list. */
+  public LongDoublyLinkedList() { this(DEFAULT_CAPACITY); }
+
+  /**
+   * Constructs a new empty list with room for the given number of
+   * elements before the node arrays need to grow.
+   * @param capacity  initial number of element slots
+   */
+  public LongDoublyLinkedList(int capacity) {
+    int slots = (int) Math.min(Math.max(capacity, 1) + 2L, MAX_CAPACITY);   // room for the sentinels
+    elements = new long[slots];
+    prev = new int[slots];
+    next = new int[slots];
+    prev[HEADER] = NIL;
+    next[HEADER] = TRAILER;                  // header is followed by trailer
+    prev[TRAILER] = HEADER;                  // trailer is preceded by header
+    next[TRAILER] = NIL;
+  }
+
+  // public accessor methods
+  /**
+   * Returns the number of elements in the linked list.
+   * @return number of elements in the linked list
+   */
+  public int size() { return size; }
+
+  /**
+   * Tests whether the linked list is empty.
+   * @return true if the linked list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list.
+   * @return element at the front of the list
+   * @throws NoSuchElementException if the list is empty
+   */
+  public long first() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return elements[next[HEADER]];           // first element is beyond header
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list.
+   * @return element at the end of the list
+   * @throws NoSuchElementException if the list is empty
+   */
+  public long last() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return elements[prev[TRAILER]];          // last element is before trailer
+  }
+
+  // public update methods
+  /**
+   * Adds an element to the front of the list.
+   * @param e   the new element to add
+   * @throws IllegalStateException if the list already holds the most elements it can
+   */
+  public void addFirst(long e) {
+    addBetween(e, HEADER, next[HEADER]);     // place just after the header
+  }
+
+  /**
+   * Adds an element to the end of the list.
+   * @param e   the new element to add
+   * @throws IllegalStateException if the list already holds the most elements it can
+   */
+  public void addLast(long e) {
+    addBetween(e, prev[TRAILER], TRAILER);   // place just before the trailer
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element
+   * @throws NoSuchElementException if the list is empty
+   */
+  public long removeFirst() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return remove(next[HEADER]);             // first element is beyond header
+  }
+
+  /**
+   * Removes and returns the last element of the list.
+   * @return the removed element
+   * @throws NoSuchElementException if the list is empty
+   */
+  public long removeLast() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return remove(prev[TRAILER]);            // last element is before trailer
+  }
+
+  // private update methods
+  /**
+   * Adds an element to the linked list in between the given nodes.
+   * The given predecessor and successor should be neighboring each
+   * other prior to the call.
+   *
+   * @param predecessor   node just before the location where the new element is inserted
+   * @param successor     node just after the location where the new element is inserted
+   */
+  private void addBetween(long e, int predecessor, int successor) {
+    int newest;
+    if (free != NIL) {                       // reuse a released slot
+      newest = free;
+      free = next[newest];
+    } else {
+      if (used == elements.length) {         // double the capacity, up to the limit
+        if (used == MAX_CAPACITY) throw new IllegalStateException("List is full");
+        int capacity = (int) Math.min(2L * used, MAX_CAPACITY);
+        elements = Arrays.copyOf(elements, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        next = Arrays.copyOf(next, capacity);
+      }
+      newest = used++;
+    }
+    elements[newest] = e;
+    prev[newest] = predecessor;
+    next[newest] = successor;
+    next[predecessor] = newest;
+    prev[successor] = newest;
+    size++;
+  }
+
+  /**
+   * Removes the given node from the list and returns its element.
+   * @param node    the node to be removed (must not be a sentinel)
+   */
+  private long remove(int node) {
+    int predecessor = prev[node];
+    int successor = next[node];
+    next[predecessor] = successor;
+    prev[successor] = predecessor;
+    next[node] = free;                       // return the slot to the free list
+    free = node;
+    size--;
+    return elements[node];
+  }
+
+  public boolean equals(Object o) {
+    if (o == null) return false;
+    if (getClass() != o.getClass()) return false;
+    LongDoublyLinkedList other = (LongDoublyLinkedList) o;
+    if (size != other.size) return false;
+    int walkA = next[HEADER];                        // traverse the primary list
+    int walkB = other.next[HEADER];                  // traverse the secondary list
+    while (walkA != TRAILER) {
+      if (elements[walkA] != other.elements[walkB]) return false;   // mismatch
+      walkA = next[walkA];
+      walkB = other.next[walkB];
+    }
+    return true;   // if we reach this, everything matched successfully
+  }
+
+  /**
+   * Returns a hash code computed like that of {@link SinglyLinkedList},
+   * using {@link Long#hashCode(long)} for each element.
+   */
+  public int hashCode() {
+    int h = 0;
+    for (int walk = next[HEADER]; walk != TRAILER; walk = next[walk]) {
+      h ^= Long.hashCode(elements[walk]);     // bitwise exclusive-or with element's code
+      h = (h << 5) | (h >>> 27);              // 5-bit cyclic shift of composite code
+    }
+    return h;
+  }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    int walk = next[HEADER];
+    while (walk != TRAILER) {
+      sb.append(elements[walk]);
+      walk = next[walk];
+      if (walk != TRAILER)
+        sb.append(", ");
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+}
@@ -0,0 +1,222 @@
+package linkedlists;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache that evicts its least recently used entries, built from a
+ * {@link DoublyLinkedList} of entries and a hash map from each key to the
+ * node of its entry. The list runs from the least to the most recently
+ * used entry: a hit moves the entry's node before the trailer, and
+ * eviction removes the node after the header, both in constant time.
+ *
+ * Capacity is bounded either by the number of entries or by the total
+ * weight of the entries, as given by a {@link Weigher}. The cache is not
+ * thread-safe.
+ */
+public class LruCache<K, V> {
+
+  //---------------- nested interfaces ----------------
+  /** Computes the weight of an entry, counted against the capacity. */
+  public interface Weigher<K, V> {
+    /**
+     * Returns the weight of the given entry.
+     * @param key    the key of the entry
+     * @param value  the value of the entry
+     * @return the weight of the entry (must not be negative)
+     */
+    long weigh(K key, V value);
+  }
+
+  /** Receives the entries evicted to respect the capacity. */
+  public interface EvictionListener<K, V> {
+    /**
+     * Called after an entry has been evicted.
+     * @param key    the key of the evicted entry
+     * @param value  the value of the evicted entry
+     */
+    void onEviction(K key, V value);
+  }
+
+  //---------------- nested Entry class ----------------
+  /** An entry of the cache, stored as an element of the recency list. */
+  private static class Entry<K, V> {
+    private final K key;
+    private V value;
+    private long weight;
+
+    public Entry(K key, V value, long weight) {
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+    }
+  } //----------- end of nested Entry class -----------
+
+  /** Most evicted nodes kept by the recency list for reuse */
+  private static final int RECYCLED_NODES = 16;
+
+  // instance variables of the LruCache
+  /** Entries from least to most recently used */
+  private final DoublyLinkedList<Entry<K, V>> recency = new DoublyLinkedList<>();
+
+  /** Node of the entry of each key */
+  private final Map<K, DoublyLinkedList.Node<Entry<K, V>>> index = new HashMap<>();
+
+  /** Maximum total weight of the entries */
+  private final long maxWeight;
+
+  /** Weigher of the entries */
+  private final Weigher<? super K, ? super V> weigher;
+
+  /** Listener notified of evictions (or null) */
+  private EvictionListener<? super K, ? super V> listener = null;
+
+  /** Total weight of the entries */
+  private long weight = 0;
+
+  // statistics
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  /**
+   * Constructs a cache holding at most the given number of entries.
+   * @param capacity  maximum number of entries
+   * @throws IllegalArgumentException if capacity is negative
+   */
+  public LruCache(int capacity) {
+    this(capacity, (k, v) -> 1);
+  }
+
+  /**
+   * Constructs a cache whose entries weigh at most the given total.
+   * @param maxWeight  maximum total weight of the entries
+   * @param weigher    computes the weight of each entry
+   * @throws IllegalArgumentException if maxWeight is negative
+   */
+  public LruCache(long maxWeight, Weigher<? super K, ? super V> weigher) {
+    if (maxWeight < 0) throw new IllegalArgumentException("Capacity must not be negative");
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+    recency.enableNodeRecycling(RECYCLED_NODES);   // evictions feed later insertions
+  }
+
+  /**
+   * Sets the listener notified of each eviction.
+   * @param listener  the listener (or null for none)
+   */
+  public void setEvictionListener(EvictionListener<? super K, ? super V> listener) {
+    this.listener = listener;
+  }
+
+  // access methods
+  /**
+   * Returns the number of entries in the cache.
+   * @return number of entries
+   */
+  public int size() { return recency.size(); }
+
+  /**
+   * Returns the total weight of the entries in the cache.
+   * @return total weight
+   */
+  public long weight() { return weight; }
+
+  /**
+   * Returns the value for the given key and marks it as most recently used.
+   * @param key  the key to look up
+   * @return the value for key (or null if not cached)
+   */
+  public V get(K key) {
+    DoublyLinkedList.Node<Entry<K, V>> node = index.get(key);
+    if (node == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    recency.moveToLast(node);
+    return node.getElement().value;
+  }
+
+  /**
+   * Tests whether the given key is cached, without affecting recency or
+   * statistics.
+   * @param key  the key to look up
+   * @return true if key is cached
+   */
+  public boolean containsKey(K key) { return index.containsKey(key); }
+
+  // update methods
+  /**
+   * Caches the given value for the given key as the most recently used
+   * entry, then evicts least recently used entries while the capacity is
+   * exceeded (which may include this entry if it alone exceeds it).
+   * @param key    the key
+   * @param value  the value
+   * @return the value previously cached for key (or null if none)
+   */
+  public V put(K key, V value) {
+    long w = weigher.weigh(key, value);
+    if (w < 0) throw new IllegalArgumentException("Negative weight");
+    V old = null;
+    DoublyLinkedList.Node<Entry<K, V>> node = index.get(key);
+    if (node != null) {                      // replace in place
+      Entry<K, V> entry = node.getElement();
+      old = entry.value;
+      weight += w - entry.weight;
+      entry.value = value;
+      entry.weight = w;
+      recency.moveToLast(node);
+    } else {
+      index.put(key, recency.addLastNode(new Entry<>(key, value, w)));
+      weight += w;
+    }
+    while (weight > maxWeight && !recency.isEmpty()) {
+      Entry<K, V> eldest = recency.removeFirst();  // least recently used
+      index.remove(eldest.key);
+      weight -= eldest.weight;
+      evictions++;
+      if (listener != null)
+        listener.onEviction(eldest.key, eldest.value);
+    }
+    return old;
+  }
+
+  /**
+   * Removes the entry of the given key (not counted as an eviction).
+   * @param key  the key
+   * @return the value that was cached for key (or null if none)
+   */
+  public V remove(K key) {
+    DoublyLinkedList.Node<Entry<K, V>> node = index.remove(key);
+    if (node == null) return null;
+    Entry<K, V> entry = recency.remove(node);
+    weight -= entry.weight;
+    return entry.value;
+  }
+
+  // statistics
+  /** @return number of get calls that found their key */
+  public long hitCount() { return hits; }
+
+  /** @return number of get calls that did not find their key */
+  public long missCount() { return misses; }
+
+  /** @return number of entries evicted to respect the capacity */
+  public long evictionCount() { return evictions; }
+
+  /**
+   * Produces a string representation of the cache, from the least to the
+   * most recently used entry. This exists for debugging purposes only.
+   */
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    recency.forEach(entry -> {
+      if (sb.length() > 1)
+        sb.append(", ");
+      sb.append(entry.key).append('=').append(entry.value);
+    });
+    sb.append(")");
+    return sb.toString();
+  }
+}
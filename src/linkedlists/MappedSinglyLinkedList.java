@@ -0,0 +1,374 @@
+package linkedlists;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A singly linked list kept in a memory-mapped file, offering the
+ * addLast/removeFirst/first/last/size operations of
+ * {@link SinglyLinkedList}. Each node is a fixed-width record holding the
+ * file offset of the next node followed by the element, encoded by a
+ * {@link RecordCodec}. The file grows in fixed-size segments, each mapped
+ * separately, and records removed from the front are kept on a free list
+ * and reused. Because the nodes live outside the Java heap, the list may
+ * grow beyond the heap without adding garbage collection work, and
+ * reopening the file makes its contents available at once.
+ *
+ * The list is written through the mapping as it is updated; call
+ * {@link #force()} to write changes to the storage device. Like
+ * SinglyLinkedList, it is not thread-safe.
+ */
+public class MappedSinglyLinkedList<E> implements Closeable {
+
+  //---------------- nested RecordCodec interface ----------------
+  /** Writes and reads elements stored in a fixed number of bytes. */
+  public interface RecordCodec<E> {
+    /**
+     * Returns the number of bytes each element occupies.
+     * @return the element width in bytes
+     */
+    int width();
+
+    /**
+     * Writes an element at the given position of the buffer.
+     * @param buf       the buffer
+     * @param position  index of the first byte to write
+     * @param e         the element to write
+     */
+    void write(ByteBuffer buf, int position, E e);
+
+    /**
+     * Reads the element at the given position of the buffer.
+     * @param buf       the buffer
+     * @param position  index of the first byte to read
+     * @return the element read
+     */
+    E read(ByteBuffer buf, int position);
+  } //----------- end of nested RecordCodec interface -----------
+
+  /** Codec for non-null Long elements, as 8-byte values */
+  public static final RecordCodec<Long> LONGS = new RecordCodec<>() {
+    public int width() { return Long.BYTES; }
+    public void write(ByteBuffer buf, int position, Long e) { buf.putLong(position, e); }
+    public Long read(ByteBuffer buf, int position) { return buf.getLong(position); }
+  };
+
+  /** Codec for non-null Integer elements, as 4-byte values */
+  public static final RecordCodec<Integer> INTEGERS = new RecordCodec<>() {
+    public int width() { return Integer.BYTES; }
+    public void write(ByteBuffer buf, int position, Integer e) { buf.putInt(position, e); }
+    public Integer read(ByteBuffer buf, int position) { return buf.getInt(position); }
+  };
+
+  /** Default number of bytes in each mapped segment of the file */
+  public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+  /** Number at the start of every file ("MSLL") */
+  private static final int MAGIC = 0x4D534C4C;
+
+  /** Version of the file layout written by this class */
+  private static final int VERSION = 1;
+
+  // layout of the header at the start of the file
+  private static final int MAGIC_AT = 0;
+  private static final int VERSION_AT = 4;
+  private static final int WIDTH_AT = 8;
+  private static final int SEGMENT_SIZE_AT = 12;
+  private static final int HEAD_AT = 16;
+  private static final int TAIL_AT = 24;
+  private static final int SIZE_AT = 32;
+  private static final int FREE_AT = 40;
+  private static final int END_AT = 48;
+  private static final int HEADER_SIZE = 64;
+
+  /** Offset designating the absence of a node (the header is never a node) */
+  private static final long NIL = 0;
+
+  // instance variables of the MappedSinglyLinkedList
+  /** The codec of the elements */
+  private final RecordCodec<E> codec;
+
+  /** The channel of the backing file */
+  private final FileChannel channel;
+
+  /** Number of bytes in each segment */
+  private final int segmentSize;
+
+  /** Number of bytes in each record (next offset and element) */
+  private final int recordSize;
+
+  /** The mapped segments of the file, in order */
+  private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+  /** The first segment, which also holds the header */
+  private final MappedByteBuffer header;
+
+  // the following mirror the header, which is updated alongside them
+  /** Offset of the head node of the list */
+  private long head;                         // head node of the list (or NIL if empty)
+
+  /** Offset of the last node of the list */
+  private long tail;                         // last node of the list (or NIL if empty)
+
+  /** Number of nodes in the list */
+  private long size;                         // number of nodes in the list
+
+  /** Offset of the first record on the free list */
+  private long free;                         // chained through the next offsets
+
+  /** Offset just past the last record ever allocated */
+  private long end;
+
+  /** Whether the list has been closed */
+  private boolean closed = false;
+
+  /**
+   * Opens the list stored in the given file, or creates an empty list
+   * there if the file does not exist or is empty, with segments of the
+   * default size.
+   * @param file   the backing file
+   * @param codec  the codec of the elements
+   * @throws IOException if the file cannot be opened or is not such a list
+   */
+  public MappedSinglyLinkedList(Path file, RecordCodec<E> codec) throws IOException {
+    this(file, codec, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Opens the list stored in the given file, or creates an empty list
+   * there if the file does not exist or is empty. An existing file keeps
+   * the segment size it was created with.
+   * @param file         the backing file
+   * @param codec        the codec of the elements
+   * @param segmentSize  number of bytes by which a new file grows at a time
+   * @throws IOException if the file cannot be opened or is not such a list
+   *         (StreamCorruptedException if its header is inconsistent)
+   * @throws IllegalArgumentException if a segment cannot hold a record
+   */
+  public MappedSinglyLinkedList(Path file, RecordCodec<E> codec, int segmentSize) throws IOException {
+    this.codec = codec;
+    this.recordSize = Long.BYTES + codec.width();
+    channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                               StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      if (channel.size() == 0) {             // a new list
+        if (segmentSize < HEADER_SIZE + recordSize)
+          throw new IllegalArgumentException("Segment size too small for a record");
+        this.segmentSize = segmentSize;
+        header = map(0);
+        header.putInt(MAGIC_AT, MAGIC);
+        header.putInt(VERSION_AT, VERSION);
+        header.putInt(WIDTH_AT, codec.width());
+        header.putInt(SEGMENT_SIZE_AT, segmentSize);
+        head = tail = free = NIL;
+        size = 0;
+        end = HEADER_SIZE;
+        writeHeader();
+      } else {                               // an existing list
+        ByteBuffer fixed = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(fixed, 0);
+        if (fixed.getInt(MAGIC_AT) != MAGIC) throw new StreamCorruptedException("Not a mapped list file");
+        if (fixed.getInt(VERSION_AT) != VERSION) throw new StreamCorruptedException("Unsupported mapped list version");
+        if (fixed.getInt(WIDTH_AT) != codec.width()) throw new StreamCorruptedException("Element width mismatch");
+        this.segmentSize = fixed.getInt(SEGMENT_SIZE_AT);
+        if (this.segmentSize < HEADER_SIZE + recordSize) throw new StreamCorruptedException("Bad segment size");
+        head = fixed.getLong(HEAD_AT);
+        tail = fixed.getLong(TAIL_AT);
+        size = fixed.getLong(SIZE_AT);
+        free = fixed.getLong(FREE_AT);
+        end = fixed.getLong(END_AT);
+        if (end < HEADER_SIZE || end > channel.size()) throw new StreamCorruptedException("Bad end offset");
+        if (!isRecord(head) || !isRecord(tail) || !isRecord(free)
+            || size < 0 || (size == 0) != (head == NIL) || (head == NIL) != (tail == NIL))
+          throw new StreamCorruptedException("Bad list offsets");
+        header = map(0);
+        while ((long) segments.size() * this.segmentSize < end)
+          map(segments.size());              // map the remaining segments
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  // access methods
+  /**
+   * Returns the number of elements in the linked list.
+   * @return number of elements in the linked list
+   */
+  public long size() {
+    checkOpen();
+    return size;
+  }
+
+  /**
+   * Tests whether the linked list is empty.
+   * @return true if the linked list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size() == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list
+   * @return element at the front of the list (or null if empty)
+   */
+  public E first() {
+    if (isEmpty()) return null;
+    return element(head);
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list.
+   * @return element at the end of the list (or null if empty)
+   */
+  public E last() {
+    if (isEmpty()) return null;
+    return element(tail);
+  }
+
+  // update methods
+  /**
+   * Adds an element to the end of the list.
+   * @param e  the new element to add
+   * @throws IOException if the file cannot grow
+   */
+  public void addLast(E e) throws IOException {
+    checkOpen();
+    long newest = allocate();                // record will eventually be the tail
+    ByteBuffer seg = segment(newest);
+    int pos = position(newest);
+    seg.putLong(pos, NIL);
+    codec.write(seg, pos + Long.BYTES, e);
+    if (isEmpty())
+      head = newest;                         // special case: previously empty list
+    else
+      setNext(tail, newest);                 // new record after existing tail
+    tail = newest;                           // new record becomes the tail
+    size++;
+    writeHeader();
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element (or null if empty)
+   */
+  public E removeFirst() {
+    if (isEmpty()) return null;              // nothing to remove
+    long old = head;
+    E answer = element(old);
+    head = next(old);                        // will become NIL if list had only one node
+    setNext(old, free);                      // return the record to the free list
+    free = old;
+    size--;
+    if (size == 0)
+      tail = NIL;                            // special case as list is now empty
+    writeHeader();
+    return answer;
+  }
+
+  /**
+   * Writes all changes to the storage device.
+   * @throws IOException if the channel does
+   */
+  public void force() throws IOException {
+    checkOpen();
+    for (MappedByteBuffer seg : segments)
+      seg.force();
+  }
+
+  /**
+   * Closes the backing file. The contents remain in the file and may be
+   * reopened; any further use of this list throws IllegalStateException.
+   * Closing a closed list has no effect.
+   * @throws IOException if the channel does
+   */
+  public void close() throws IOException {
+    if (closed) return;
+    closed = true;
+    segments.clear();                        // mappings end once unreachable
+    channel.close();
+  }
+
+  // private utilities
+  /** Throws IllegalStateException if the list has been closed. */
+  private void checkOpen() {
+    if (closed) throw new IllegalStateException("List is closed");
+  }
+
+  /** Tests whether an offset read from the header is NIL or a whole record before end. */
+  private boolean isRecord(long offset) {
+    if (offset == NIL) return true;
+    return offset >= HEADER_SIZE && offset <= end - recordSize
+           && offset % segmentSize + recordSize <= segmentSize;
+  }
+
+  /** Returns the offset of an unused record, growing the file if needed. */
+  private long allocate() throws IOException {
+    if (free != NIL) {                       // reuse a released record
+      long slot = free;
+      free = next(slot);
+      return slot;
+    }
+    long slot = end;
+    if (position(slot) + recordSize > segmentSize)   // records never straddle segments
+      slot = (slot / segmentSize + 1) * segmentSize;
+    if (slot / segmentSize >= segments.size())
+      map(segments.size());                  // extend the file by a segment
+    end = slot + recordSize;
+    return slot;
+  }
+
+  /** Maps the segment with the given index, extending the file as needed. */
+  private MappedByteBuffer map(int index) throws IOException {
+    MappedByteBuffer seg = channel.map(FileChannel.MapMode.READ_WRITE, (long) index * segmentSize, segmentSize);
+    segments.add(seg);
+    return seg;
+  }
+
+  /** Copies the list state into the header. */
+  private void writeHeader() {
+    header.putLong(HEAD_AT, head);
+    header.putLong(TAIL_AT, tail);
+    header.putLong(SIZE_AT, size);
+    header.putLong(FREE_AT, free);
+    header.putLong(END_AT, end);
+  }
+
+  /** Returns the segment holding the record at the given offset. */
+  private ByteBuffer segment(long offset) { return segments.get((int) (offset / segmentSize)); }
+
+  /** Returns the position of the record at the given offset within its segment. */
+  private int position(long offset) { return (int) (offset % segmentSize); }
+
+  /** Returns the element of the record at the given offset. */
+  private E element(long offset) { return codec.read(segment(offset), position(offset) + Long.BYTES); }
+
+  /** Returns the next offset of the record at the given offset. */
+  private long next(long offset) { return segment(offset).getLong(position(offset)); }
+
+  /** Sets the next offset of the record at the given offset. */
+  private void setNext(long offset, long n) { segment(offset).putLong(position(offset), n); }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    checkOpen();
+    StringBuilder sb = new StringBuilder("(");
+    for (long walk = head; walk != NIL; walk = next(walk)) {
+      sb.append(element(walk));
+      if (walk != tail)
+        sb.append(", ");
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+}
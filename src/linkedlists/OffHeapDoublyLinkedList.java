@@ -0,0 +1,242 @@
+package linkedlists;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly linked list of long values whose nodes live outside the Java
+ * heap, in direct memory blocks. Each node is a 16-byte record holding the
+ * indices of its previous and next nodes and its element, so the garbage
+ * collector never sees individual nodes. As in {@link DoublyLinkedList},
+ * the list is bracketed by header and trailer sentinels (records 0 and 1)
+ * and all updates go through addBetween and remove. Records of removed
+ * nodes are kept on a free list and reused.
+ *
+ * Call {@link #close()} when the list is no longer needed; any further
+ * use of the list throws IllegalStateException. Closing drops the list's
+ * references to its blocks but does not free them: on Java 17 there is no
+ * supported way to release a direct buffer explicitly (the memory segment
+ * API that would allow it is still incubating), so the memory is returned
+ * to the system only when the garbage collector reclaims the blocks. All
+ * direct memory of the process, including closed lists not yet collected,
+ * counts against -XX:MaxDirectMemorySize, and allocating beyond it fails
+ * with OutOfMemoryError. Like DoublyLinkedList, it is not thread-safe.
+ */
+public class OffHeapDoublyLinkedList implements Closeable {
+
+  /** Index designating the absence of a node */
+  private static final int NIL = -1;
+
+  /** Record of the header sentinel */
+  private static final int HEADER = 0;
+
+  /** Record of the trailer sentinel */
+  private static final int TRAILER = 1;
+
+  // layout of a node record
+  private static final int PREV_AT = 0;
+  private static final int NEXT_AT = 4;
+  private static final int ELEMENT_AT = 8;
+  private static final int RECORD_SIZE = 16;
+
+  /** log2 of the number of records in each block of memory */
+  private static final int BLOCK_SHIFT = 16;
+
+  /** Number of records in each block of memory */
+  private static final int BLOCK_RECORDS = 1 << BLOCK_SHIFT;
+
+  // instance variables of the OffHeapDoublyLinkedList
+  /** The blocks of direct memory holding the records, in order */
+  private List<ByteBuffer> blocks = new ArrayList<>();
+
+  /** Index of the first unused record on the free list */
+  private int free = NIL;                    // chained through the next indices
+
+  /** Number of records ever handed out, including the sentinels */
+  private int used = 0;
+
+  /** Number of elements in the list (not including sentinels) */
+  private int size = 0;                      // number of elements in the list
+
+  /** Constructs a new empty list. */
+  public OffHeapDoublyLinkedList() {
+    int header = allocate();                 // create header
+    int trailer = allocate();                // create trailer
+    setPrev(header, NIL);
+    setNext(header, trailer);                // header is followed by trailer
+    setPrev(trailer, header);                // trailer is preceded by header
+    setNext(trailer, NIL);
+  }
+
+  // public accessor methods
+  /**
+   * Returns the number of elements in the linked list.
+   * @return number of elements in the linked list
+   */
+  public int size() {
+    checkOpen();
+    return size;
+  }
+
+  /**
+   * Tests whether the linked list is empty.
+   * @return true if the linked list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size() == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list.
+   * @return element at the front of the list
+   * @throws NoSuchElementException if the list is empty
+   */
+  public long first() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return element(next(HEADER));            // first element is beyond header
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list.
+   * @return element at the end of the list
+   * @throws NoSuchElementException if the list is empty
+   */
+  public long last() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return element(prev(TRAILER));           // last element is before trailer
+  }
+
+  // public update methods
+  /**
+   * Adds an element to the front of the list.
+   * @param e   the new element to add
+   */
+  public void addFirst(long e) {
+    checkOpen();
+    addBetween(e, HEADER, next(HEADER));     // place just after the header
+  }
+
+  /**
+   * Adds an element to the end of the list.
+   * @param e   the new element to add
+   */
+  public void addLast(long e) {
+    checkOpen();
+    addBetween(e, prev(TRAILER), TRAILER);   // place just before the trailer
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element
+   * @throws NoSuchElementException if the list is empty
+   */
+  public long removeFirst() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return remove(next(HEADER));             // first element is beyond header
+  }
+
+  /**
+   * Removes and returns the last element of the list.
+   * @return the removed element
+   * @throws NoSuchElementException if the list is empty
+   */
+  public long removeLast() {
+    if (isEmpty()) throw new NoSuchElementException("List is empty");
+    return remove(prev(TRAILER));            // last element is before trailer
+  }
+
+  /**
+   * Closes the list, dropping its references to its blocks of memory. The
+   * direct memory is not freed here; it is returned to the system, and
+   * stops counting against -XX:MaxDirectMemorySize, only when the blocks
+   * are garbage collected. Closing a closed list has no effect.
+   */
+  public void close() {
+    blocks = null;                           // marks the list as closed
+    free = NIL;
+    used = 0;
+    size = 0;
+  }
+
+  // private update methods
+  /**
+   * Adds an element to the linked list in between the given nodes.
+   * The given predecessor and successor should be neighboring each
+   * other prior to the call.
+   *
+   * @param predecessor   node just before the location where the new element is inserted
+   * @param successor     node just after the location where the new element is inserted
+   */
+  private void addBetween(long e, int predecessor, int successor) {
+    // create and link a new node
+    int newest = allocate();
+    setElement(newest, e);
+    setPrev(newest, predecessor);
+    setNext(newest, successor);
+    setNext(predecessor, newest);
+    setPrev(successor, newest);
+    size++;
+  }
+
+  /**
+   * Removes the given node from the list and returns its element.
+   * @param node    the node to be removed (must not be a sentinel)
+   */
+  private long remove(int node) {
+    int predecessor = prev(node);
+    int successor = next(node);
+    setNext(predecessor, successor);
+    setPrev(successor, predecessor);
+    setNext(node, free);                     // return the record to the free list
+    free = node;
+    size--;
+    return element(node);
+  }
+
+  /** Throws IllegalStateException if the list has been closed. */
+  private void checkOpen() {
+    if (blocks == null) throw new IllegalStateException("List is closed");
+  }
+
+  /** Returns an unused record, taken from the free list if possible. */
+  private int allocate() {
+    if (free != NIL) {                       // reuse a released record
+      int node = free;
+      free = next(node);
+      return node;
+    }
+    if (used == blocks.size() * BLOCK_RECORDS)   // add a block of memory
+      blocks.add(ByteBuffer.allocateDirect(BLOCK_RECORDS * RECORD_SIZE).order(ByteOrder.nativeOrder()));
+    return used++;
+  }
+
+  // record accessors
+  private ByteBuffer block(int node) { return blocks.get(node >>> BLOCK_SHIFT); }
+  private int offset(int node) { return (node & (BLOCK_RECORDS - 1)) * RECORD_SIZE; }
+  private int prev(int node) { return block(node).getInt(offset(node) + PREV_AT); }
+  private int next(int node) { return block(node).getInt(offset(node) + NEXT_AT); }
+  private long element(int node) { return block(node).getLong(offset(node) + ELEMENT_AT); }
+  private void setPrev(int node, int p) { block(node).putInt(offset(node) + PREV_AT, p); }
+  private void setNext(int node, int n) { block(node).putInt(offset(node) + NEXT_AT, n); }
+  private void setElement(int node, long e) { block(node).putLong(offset(node) + ELEMENT_AT, e); }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    checkOpen();
+    StringBuilder sb = new StringBuilder("(");
+    int walk = next(HEADER);
+    while (walk != TRAILER) {
+      sb.append(element(walk));
+      walk = next(walk);
+      if (walk != TRAILER)
+        sb.append(", ");
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+}
@@ -0,0 +1,15 @@
+package linkedlists;
+
+/**
+ * A handle on the location at which a single element is stored in a
+ * list. A position stays valid, and keeps referring to the same element,
+ * while other elements are added or removed around it, until its own
+ * element is removed.
+ */
+public interface Position<E> {
+  /**
+   * Returns the element stored at this position.
+   * @return the stored element (or null once the position is removed)
+   */
+  E getElement();
+}
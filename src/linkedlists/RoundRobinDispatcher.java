@@ -0,0 +1,280 @@
+package linkedlists;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dispatches to a changing set of members in smooth weighted round-robin
+ * order: over each cycle a member of weight w is chosen w times, and its
+ * turns are spread out rather than bunched together (weights 5, 1, 1 give
+ * a a b a c a a rather than a a a a a b c).
+ *
+ * The members are kept in a {@link CircularlyLinkedList}, from which each
+ * change builds a schedule. When the weights, divided by their greatest
+ * common divisor, total at most {@link #MAX_CYCLE}, the schedule holds
+ * one full cycle of turns, built in O(n W) time for n members of total
+ * weight W, and {@link #next()} takes no lock: it picks the next turn
+ * with an atomic counter. Heavier weightings are not precomputed;
+ * instead next() takes the schedule's own lock and runs one O(n) step of
+ * the algorithm. Either way any number of threads may call next() while
+ * members are added or removed. Changes are serialized by a lock and
+ * take effect once the new schedule is published. Each member counts how
+ * often it has been chosen.
+ */
+public class RoundRobinDispatcher<E> {
+
+  //---------------- nested Member class ----------------
+  /** A member with its weight and selection counter. */
+  private static class Member<E> {
+    private final E element;
+    private int weight;                        // guarded by the lock
+    private final LongAdder selections = new LongAdder();
+
+    public Member(E element, int weight) {
+      this.element = element;
+      this.weight = weight;
+    }
+  } //----------- end of nested Member class -----------
+
+  //---------------- nested Schedule class ----------------
+  /**
+   * The turns of the members as of one change: either one precomputed
+   * cycle, never modified once published, or the state of smooth weighted
+   * round-robin, advanced one turn at a time under the schedule's lock.
+   */
+  private static class Schedule<E> {
+    private final Member<E>[] turns;           // one full cycle, or null if not precomputed
+    private final Member<E>[] ring;            // the members, in order
+    private final int[] weights;               // their weights divided by the gcd
+    private final long total;                  // sum of the divided weights
+    private final long[] current;              // running totals (guarded by step)
+    private final ReentrantLock step = new ReentrantLock();
+
+    public Schedule(Member<E>[] turns, Member<E>[] ring, int[] weights, long total) {
+      this.turns = turns;
+      this.ring = ring;
+      this.weights = weights;
+      this.total = total;
+      current = (turns == null) ? new long[ring.length] : null;
+    }
+
+    /** Returns the member whose turn is the given one. */
+    public Member<E> turn(long cursor) {
+      if (turns != null)
+        return turns[(int) Long.remainderUnsigned(cursor, turns.length)];
+      step.lock();
+      try {
+        return ring[pick(weights, current, total)];
+      } finally {
+        step.unlock();
+      }
+    }
+  } //----------- end of nested Schedule class -----------
+
+  /** Longest cycle of turns that is precomputed */
+  public static final int MAX_CYCLE = 1 << 16;
+
+  // instance variables of the RoundRobinDispatcher
+  /** The members, in the order they were added (guarded by the lock) */
+  private final CircularlyLinkedList<Member<E>> members = new CircularlyLinkedList<>();
+
+  /** The schedule used by next */
+  private volatile Schedule<E> schedule = build(null);
+
+  /** Number of turns taken */
+  private final AtomicLong cursor = new AtomicLong();
+
+  /** Lock serializing changes of the members */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /** Constructs a dispatcher without members. */
+  public RoundRobinDispatcher() { }
+
+  // access methods
+  /**
+   * Returns the number of members.
+   * @return number of members
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return members.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the member whose turn is next. Takes no lock unless the
+   * weights make a cycle longer than {@link #MAX_CYCLE}.
+   * @return the chosen member (or null if there are none)
+   */
+  public E next() {
+    Schedule<E> current = schedule;
+    if (current.ring.length == 0) return null;
+    Member<E> chosen = current.turn(cursor.getAndIncrement());
+    chosen.selections.increment();
+    return chosen.element;
+  }
+
+  /**
+   * Returns how many times each current member has been chosen, in the
+   * order the members were added.
+   * @return map from member to number of selections
+   */
+  public Map<E, Long> selectionCounts() {
+    Map<E, Long> counts = new LinkedHashMap<>();
+    lock.lock();
+    try {
+      members.forEach(m -> counts.put(m.element, m.selections.sum()));
+    } finally {
+      lock.unlock();
+    }
+    return counts;
+  }
+
+  // update methods
+  /**
+   * Adds a member with the given weight, or changes the weight of an
+   * existing member.
+   * @param element  the member
+   * @param weight   number of turns of the member in each cycle
+   * @return true if the member was added, false if it was already present
+   * @throws IllegalArgumentException if weight is not positive
+   */
+  public boolean add(E element, int weight) {
+    if (weight <= 0) throw new IllegalArgumentException("Weight must be positive");
+    lock.lock();
+    try {
+      Member<E> existing = find(element);
+      if (existing != null)
+        existing.weight = weight;
+      else
+        members.addLast(new Member<>(element, weight));
+      schedule = build(members);
+      return existing == null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the given member. Threads already past the old schedule may
+   * still return it once.
+   * @param element  the member
+   * @return true if the member was present
+   */
+  public boolean remove(E element) {
+    lock.lock();
+    try {
+      Member<E> target = find(element);
+      if (target == null) return false;
+      unlink(target);
+      schedule = build(members);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // private utilities
+  /** Returns the member holding the given element (or null if there is none). */
+  private Member<E> find(E element) {
+    Member<E>[] found = newMembers(1);
+    members.forEach(m -> {
+      if (m.element == null ? element == null : m.element.equals(element))
+        found[0] = m;
+    });
+    return found[0];
+  }
+
+  /** Removes the given member from the ring, keeping the order of the others. */
+  private void unlink(Member<E> target) {
+    for (int j = members.size(); j > 0; j--) {   // one revolution keeps the order
+      if (members.first() == target)
+        members.removeFirst();
+      else
+        members.rotate();
+    }
+  }
+
+  /**
+   * Builds the schedule of smooth weighted round-robin: at each turn every
+   * member gains its weight, and the member with the most is chosen and
+   * loses the total weight. Weights are first divided by their greatest
+   * common divisor, which keeps the cycle short; a cycle longer than
+   * MAX_CYCLE is left to be computed turn by turn.
+   */
+  private static <E> Schedule<E> build(CircularlyLinkedList<Member<E>> members) {
+    if (members == null || members.isEmpty())
+      return new Schedule<>(newMembers(0), newMembers(0), new int[0], 0);
+    int n = members.size();
+    Member<E>[] ring = newMembers(n);
+    int[] index = {0};
+    members.forEach(m -> ring[index[0]++] = m);
+    int divisor = 0;
+    for (Member<E> m : ring)
+      divisor = gcd(divisor, m.weight);
+    int[] weights = new int[n];
+    long total = 0;
+    for (int j = 0; j < n; j++) {
+      weights[j] = ring[j].weight / divisor;
+      total += weights[j];
+    }
+    if (total > MAX_CYCLE)
+      return new Schedule<>(null, ring, weights, total);
+    Member<E>[] turns = newMembers((int) total);
+    long[] current = new long[n];
+    for (int t = 0; t < turns.length; t++)
+      turns[t] = ring[pick(weights, current, total)];
+    return new Schedule<>(turns, ring, weights, total);
+  }
+
+  /** Runs one turn of smooth weighted round-robin and returns the index chosen. */
+  private static int pick(int[] weights, long[] current, long total) {
+    int best = 0;
+    for (int j = 0; j < weights.length; j++) {
+      current[j] += weights[j];
+      if (current[j] > current[best]) best = j;
+    }
+    current[best] -= total;
+    return best;
+  }
+
+  /** Returns an array of the given number of member references. */
+  @SuppressWarnings("unchecked")
+  private static <E> Member<E>[] newMembers(int n) { return (Member<E>[]) new Member<?>[n]; }
+
+  /** Returns the greatest common divisor of a and b. */
+  private static int gcd(int a, int b) {
+    while (b != 0) {
+      int r = a % b;
+      a = b;
+      b = r;
+    }
+    return a;
+  }
+
+  /**
+   * Produces a string representation of the members and their weights.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    lock.lock();
+    try {
+      members.forEach(m -> {
+        if (sb.length() > 1)
+          sb.append(", ");
+        sb.append(m.element).append('x').append(m.weight);
+      });
+    } finally {
+      lock.unlock();
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+}
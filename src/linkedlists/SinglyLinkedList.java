@@ -22,6 +22,22 @@
  */
 package linkedlists;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractCollection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A basic singly linked list implementation.
  *
@@ -29,7 +45,7 @@ package linkedlists;
  * @author Roberto Tamassia
  * @author Michael H. Goldwasser
  */
-public class SinglyLinkedList<E> implements Cloneable {
+public class SinglyLinkedList<E> implements Cloneable, Iterable<E> {
   //---------------- nested Node class ----------------
   /**
    * Node of a singly linked list, which stores a reference to its
@@ -87,6 +103,18 @@ public class SinglyLinkedList<E> implements Cloneable {
   /** Number of nodes in the list */
   private int size = 0;                      // number of nodes in the list
 
+  /** Optional index from each element to its predecessor node (null if disabled) */
+  private Map<E, Node<E>> predecessors = null;  // used by swapNodes
+
+  /** Whether the hash code is maintained as the list is updated */
+  private boolean cacheHash = false;
+
+  /** Whether the cached hash code reflects the current contents */
+  private boolean hashValid = false;
+
+  /** The cached hash code (meaningful only if hashValid) */
+  private int hash;
+
   /** Constructs an initially empty list. */
   public SinglyLinkedList() { }              // constructs an initially empty list
 
@@ -121,6 +149,65 @@ public class SinglyLinkedList<E> implements Cloneable {
     return tail.getElement();
   }
 
+  /**
+   * Performs the given action on each element of the list, in order.
+   * @param action  the action to perform
+   */
+  public void forEach(Consumer<? super E> action) {
+    for (Node<E> walk = head; walk != null; walk = walk.getNext())
+      action.accept(walk.getElement());
+  }
+
+  /**
+   * Returns an iterator over the elements of the list, in order. The list
+   * must not be modified while the iterator is in use.
+   * @return an iterator over the elements of the list
+   */
+  public Iterator<E> iterator() { return new ElementIterator(); }
+
+  /**
+   * Returns a spliterator over the elements of the list, which reports
+   * SIZED and ORDERED. It splits by copying batches of elements into
+   * arrays, so that parallel streams can divide the list among threads.
+   * Like the spliterators of the JDK's lists it is late-binding: it takes
+   * the list's iterator and size at its first traversal, split or size
+   * query, not when it is created.
+   * @return a spliterator over the elements of the list
+   */
+  public Spliterator<E> spliterator() {
+    return Spliterators.spliterator(new AbstractCollection<E>() {   // a view read on first use
+      public Iterator<E> iterator() { return SinglyLinkedList.this.iterator(); }
+      public int size() { return size; }
+    }, Spliterator.ORDERED);
+  }
+
+  /**
+   * Returns a sequential stream of the elements of the list.
+   * @return a stream of the elements of the list
+   */
+  public Stream<E> stream() { return StreamSupport.stream(spliterator(), false); }
+
+  /**
+   * Returns a parallel stream of the elements of the list.
+   * @return a parallel stream of the elements of the list
+   */
+  public Stream<E> parallelStream() { return StreamSupport.stream(spliterator(), true); }
+
+  //---------------- nested ElementIterator class ----------------
+  /** Iterator over the elements of the list, walking the nodes from the head. */
+  private class ElementIterator implements Iterator<E> {
+    private Node<E> walk = head;             // node of the next element to report
+
+    public boolean hasNext() { return walk != null; }
+
+    public E next() {
+      if (walk == null) throw new NoSuchElementException("No more elements");
+      E answer = walk.getElement();
+      walk = walk.getNext();
+      return answer;
+    }
+  } //----------- end of nested ElementIterator class -----------
+
   // update methods
   /**
    * Adds an element to the front of the list.
@@ -131,6 +218,10 @@ public class SinglyLinkedList<E> implements Cloneable {
     if (size == 0)
       tail = head;                           // special case: new node becomes tail also
     size++;
+    if (hashValid)                           // e is size positions from the end
+      hash ^= Integer.rotateLeft(Objects.hashCode(e), 5 * size);
+    if (predecessors != null && indexPredecessor(e, null) && size > 1)
+      predecessors.put(head.getNext().getElement(), head);
   }
 
   /**
@@ -139,12 +230,16 @@ public class SinglyLinkedList<E> implements Cloneable {
    */
   public void addLast(E e) {                 // adds element e to the end of the list
     Node<E> newest = new Node<>(e, null);    // node will eventually be the tail
+    if (predecessors != null)
+      indexPredecessor(e, tail);             // old tail (or null) precedes e
     if (isEmpty())
       head = newest;                         // special case: previously empty list
     else
       tail.setNext(newest);                  // new node after existing tail
     tail = newest;                           // new node becomes the tail
     size++;
+    if (hashValid)                           // one more step of the hash loop
+      hash = Integer.rotateLeft(hash ^ Objects.hashCode(e), 5);
   }
 
   /**
@@ -154,23 +249,144 @@ public class SinglyLinkedList<E> implements Cloneable {
   public E removeFirst() {                   // removes and returns the first element
     if (isEmpty()) return null;              // nothing to remove
     E answer = head.getElement();
+    if (hashValid)                           // cancel the contribution of the head
+      hash ^= Integer.rotateLeft(Objects.hashCode(answer), 5 * size);
     head = head.getNext();                   // will become null if list had only one node
     size--;
     if (size == 0)
       tail = null;                           // special case as list is now empty
+    if (predecessors != null) {
+      predecessors.remove(answer);
+      if (head != null) predecessors.put(head.getElement(), null);
+    }
     return answer;
   }
 
+  /**
+   * Sorts the list in place by relinking its nodes, with an iterative
+   * bottom-up merge sort: O(n log n) comparisons, constant extra space,
+   * and stable (equal elements keep their order). If the comparator
+   * throws, the list keeps all of its elements, in an unspecified order.
+   * @param c  the comparator (or null for the natural ordering)
+   */
+  @SuppressWarnings("unchecked")
+  public void sort(Comparator<? super E> c) {
+    if (size < 2) return;                    // already sorted
+    if (c == null) c = (Comparator<? super E>) Comparator.naturalOrder();
+    Node<E> front = new Node<>(null, head);  // temporary node before the head
+    Node<E> last = front;                    // last node of the merged output
+    Node<E> walk = null;                     // first node not yet merged in this pass
+    try {
+      for (long width = 1; width < size; width *= 2) {   // merge runs of width nodes
+        last = front;
+        walk = front.getNext();
+        while (walk != null) {
+          Node<E> left = walk;
+          Node<E> right = cut(left, width);
+          walk = cut(right, width);
+          last = merge(left, right, last, c);
+        }
+      }
+    } finally {
+      if (last.getNext() != null) {          // a merge failed: reattach the unmerged rest
+        last = end(last);
+        last.setNext(walk);
+        last = end(last);
+      }
+      head = front.getNext();
+      tail = last;
+      hashValid = false;                     // positions changed; recompute lazily
+      if (predecessors != null)
+        enableSwapIndex();                   // rebuild the index
+    }
+  }
+
+  /**
+   * Detaches the run of at most n nodes starting at the given node from
+   * the nodes that follow it.
+   * @return the first node after the run (or null if none)
+   */
+  private static <E> Node<E> cut(Node<E> run, long n) {
+    for (long j = 1; run != null && j < n; j++)
+      run = run.getNext();
+    if (run == null) return null;
+    Node<E> rest = run.getNext();
+    run.setNext(null);
+    return rest;
+  }
+
+  /**
+   * Merges two sorted runs after the given node, taking from the left run
+   * on ties so that the sort is stable. If the comparator throws, the
+   * rest of both runs is still linked after the merged nodes.
+   * @return the last node of the merged run
+   */
+  private static <E> Node<E> merge(Node<E> left, Node<E> right, Node<E> last,
+                                   Comparator<? super E> c) {
+    try {
+      while (left != null && right != null) {
+        if (c.compare(left.getElement(), right.getElement()) <= 0) {
+          last.setNext(left);
+          left = left.getNext();
+        } else {
+          last.setNext(right);
+          right = right.getNext();
+        }
+        last = last.getNext();
+      }
+    } finally {
+      last.setNext(left != null ? left : right);   // append the remaining run
+      if (left != null && right != null)
+        end(left).setNext(right);            // after a failure, keep both
+    }
+    return end(last);
+  }
+
+  /** Returns the last node of the null-terminated chain from the given node. */
+  private static <E> Node<E> end(Node<E> walk) {
+    while (walk.getNext() != null)
+      walk = walk.getNext();
+    return walk;
+  }
+
+  /**
+   * Appends the given number of elements, taken in order from the source.
+   * The new nodes are linked to one another directly and attached to the
+   * list at the end, so the list is unchanged if the source throws.
+   * @param count   number of elements to append
+   * @param source  supplier of the elements
+   */
+  void appendAll(int count, Supplier<? extends E> source) {
+    if (count <= 0) return;
+    Node<E> first = new Node<>(source.get(), null);
+    Node<E> last = first;
+    for (int j = 1; j < count; j++) {
+      Node<E> newest = new Node<>(source.get(), null);
+      last.setNext(newest);
+      last = newest;
+    }
+    if (isEmpty())
+      head = first;
+    else
+      tail.setNext(first);
+    tail = last;
+    size += count;
+    hashValid = false;                       // recomputed lazily if cached
+    if (predecessors != null)
+      enableSwapIndex();                     // rebuild the index
+  }
+
   @SuppressWarnings({"unchecked"})
   public boolean equals(Object o) {
     if (o == null) return false;
     if (getClass() != o.getClass()) return false;
     SinglyLinkedList other = (SinglyLinkedList) o;   // use nonparameterized type
     if (size != other.size) return false;
+    if (hashValid && other.hashValid && hash != other.hash) return false;
     Node walkA = head;                               // traverse the primary list
     Node walkB = other.head;                         // traverse the secondary list
     while (walkA != null) {
-      if (!walkA.getElement().equals(walkB.getElement())) return false; //mismatch
+      if (!Objects.equals(walkA.getElement(), walkB.getElement())) return false; //mismatch
       walkA = walkA.getNext();
       walkB = walkB.getNext();
     }
@@ -181,6 +397,7 @@ public class SinglyLinkedList<E> implements Cloneable {
   public SinglyLinkedList<E> clone() throws CloneNotSupportedException {
     // always use inherited Object.clone() to create the initial copy
     SinglyLinkedList<E> other = (SinglyLinkedList<E>) super.clone(); // safe cast
+    other.predecessors = null;         // the clone does not share our swap index
     if (size > 0) {                    // we need independent chain of nodes
       other.head = new Node<>(head.getElement(), null);
       Node<E> walk = head.getNext();      // walk through remainder of original list
@@ -191,114 +408,242 @@ public class SinglyLinkedList<E> implements Cloneable {
         otherTail = newest;
         walk = walk.getNext();
       }
+      other.tail = otherTail;           // the clone's tail must be its own last node
     }
     return other;
   }
 
+  /**
+   * Returns a hash code that depends on the order of the elements. Each
+   * element's code is XORed in and the composite code rotated by 5 bits,
+   * so element i of n contributes its code rotated by 5(n-i) bits; that
+   * is what allows the cached code to be updated at either end.
+   */
   public int hashCode() {
+    if (hashValid) return hash;
     int h = 0;
     for (Node walk=head; walk != null; walk = walk.getNext()) {
-      h ^= walk.getElement().hashCode();      // bitwise exclusive-or with element's code
+      h ^= Objects.hashCode(walk.getElement());  // bitwise exclusive-or with element's code
       h = (h << 5) | (h >>> 27);              // 5-bit cyclic shift of composite code
     }
+    if (cacheHash) {                          // remember it until the next reordering
+      hash = h;
+      hashValid = true;
+    }
     return h;
   }
 
+  /**
+   * Maintains the hash code as elements are added and removed at either
+   * end, so that hashCode runs in constant time and equals can reject
+   * lists with different codes without a traversal. Reordering the list
+   * (e.g., swapNodes) invalidates the code until the next hashCode call.
+   * Elements must not change their own hash codes while in the list.
+   */
+  public void enableHashCache() {
+    cacheHash = true;
+    hashCode();                               // computes and caches the code
+  }
+
+  /** Stops maintaining the hash code; hashCode walks the list again. */
+  public void disableHashCache() {
+    cacheHash = false;
+    hashValid = false;
+  }
+
+  /**
+   * Writes the contents of the list to the given destination in the
+   * format of toString, one element at a time, so that no string holding
+   * the whole list is ever built.
+   * @param out  destination of the characters
+   * @throws IOException if out does
+   */
+  public void writeTo(Appendable out) throws IOException {
+    writeTo(out, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Writes at most the given number of elements of the list to the given
+   * destination, in the format of toString. If elements remain, "..." is
+   * written in their place.
+   * @param out          destination of the characters
+   * @param maxElements  maximum number of elements to write
+   * @throws IOException if out does
+   * @throws IllegalArgumentException if maxElements is negative
+   */
+  public void writeTo(Appendable out, int maxElements) throws IOException {
+    if (maxElements < 0) throw new IllegalArgumentException("maxElements must not be negative");
+    out.append('(');
+    int count = 0;
+    for (Node<E> walk = head; walk != null; walk = walk.getNext(), count++) {
+      if (count > 0)
+        out.append(", ");
+      if (count == maxElements) {
+        out.append("...");
+        break;
+      }
+      out.append(String.valueOf(walk.getElement()));
+    }
+    out.append(')');
+  }
+
   /**
    * Produces a string representation of the contents of the list.
    * This exists for debugging purposes only.
    */
   public String toString() {
-    StringBuilder sb = new StringBuilder("(");
-    Node<E> walk = head;
-    while (walk != null) {
-      sb.append(walk.getElement());
-      if (walk != tail)
-        sb.append(", ");
-      walk = walk.getNext();
+    return toString(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Produces a string representation of at most the given number of
+   * elements of the list, followed by "..." if elements remain.
+   * @param maxElements  maximum number of elements to include
+   * @throws IllegalArgumentException if maxElements is negative
+   */
+  public String toString(int maxElements) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      writeTo(sb, maxElements);
+    } catch (IOException e) {                 // a StringBuilder never throws
+      throw new UncheckedIOException(e);
     }
-    sb.append(")");
     return sb.toString();
   }
   
   // Assignment 1 - Question 2
   // -----------------------------------------------------------------------------------------------------
-  @SuppressWarnings({"unchecked"})
-  public void swapNodes(E node1, E node2)
-  {
-	  // Check if node1 and node2 are the same
-	  if (node1 == node2)
-	  {
-		  System.out.println("Both nodes provided are the same");
-		  return;
-	  }
-	  
-	  // Check if the size of the array is at least 2
-	  if (this.size() < 2)
-	  {
-		  System.out.println("Not enough elements in the LinkedList to switch nodes");
-		  return;
-	  }
-	  
-	  // Create nodes for traversing and storing previous/current
-	  Node currentNode1 = head;
-	  Node previousNode1 = null;
-	 	  
-	  // Search for node1 by traversing the list until node1 found or reaches end of the list
-	  while (currentNode1 != null && currentNode1.element != node1)
-	  {
-		  previousNode1 = currentNode1;
-		  currentNode1 = currentNode1.getNext();
-	  }
-
-//	  
-	  // Create nodes for traversing and storing previous/current
-	  Node currentNode2 = head;
-	  Node previousNode2 = null;
-	  System.out.println(currentNode2.getNext().element);
-	  // Search for node2 by traversing the list until node2 found or reaches end of the list
-	  while (currentNode2 != null && currentNode2.element != node2)
-	  {
-		  previousNode2 = currentNode2;
-		  currentNode2 = currentNode2.getNext();
-	  }
-
-	  // Check if node1 and node2 is null (Both were not found)
-	  if (currentNode1 == null || currentNode2 == null)
-	  {
-		  System.out.println("One of the elements are not found in the list");
-		  return;
-	  }
-	  
-	  // node1 is NOT head
-	  if (previousNode1 != null)
-	  {
-		  previousNode1.setNext(currentNode2);
-	  }
-	  else
-	  {
-		  // Make node2 the head
-		  head = currentNode2;
-	  }
-	  
-	  // node2 is NOT head
-	  if (previousNode2 != null)
-	  {
-		  previousNode2.setNext(currentNode1);
-	  }
-	  else
-	  {
-		  // Make node2 the head
-		  head = currentNode1;
-	  }
-
-	  // SWAP the remaining nodes to point correctly
-	  Node temp = currentNode1.getNext();
-	  currentNode1.setNext(currentNode2.getNext());
-	  currentNode2.setNext(temp);
-	  System.out.println("Nodes are swapped");
+  /** Outcome of a call to swapNodes. */
+  public enum SwapResult {
+    /** The two nodes were found and exchanged */
+    SWAPPED,
+    /** Both arguments designate the same element, so nothing was done */
+    SAME_ELEMENT,
+    /** The list holds fewer than two elements */
+    TOO_FEW_ELEMENTS,
+    /** At least one of the elements is not in the list */
+    NOT_FOUND
   }
-  
+
+  /**
+   * Swaps the nodes storing the given elements (compared by identity).
+   * @param e1  element stored at the first node
+   * @param e2  element stored at the second node
+   * @return the outcome of the swap
+   */
+  public SwapResult swapNodes(E e1, E e2) {
+    return swapNodes(e1, e2, false);
+  }
+
+  /**
+   * Swaps the nodes storing the given elements by relinking them. Both
+   * predecessors are located in a single walk, or looked up in constant
+   * time if the swap index is enabled.
+   * @param e1        element stored at the first node
+   * @param e2        element stored at the second node
+   * @param byEquals  true to compare elements with equals, false for identity
+   * @return the outcome of the swap
+   */
+  public SwapResult swapNodes(E e1, E e2, boolean byEquals) {
+    if (matches(e1, e2, byEquals)) return SwapResult.SAME_ELEMENT;
+    if (size < 2) return SwapResult.TOO_FEW_ELEMENTS;
+    Node<E> prev1 = null, prev2 = null;      // predecessors (null for head)
+    boolean found1 = false, found2 = false;
+    if (predecessors != null) {              // constant-time lookup
+      found1 = predecessors.containsKey(e1);
+      found2 = predecessors.containsKey(e2);
+      if (found1) {
+        prev1 = predecessors.get(e1);
+        found1 = matches(nodeAfter(prev1).getElement(), e1, byEquals);
+      }
+      if (found2) {
+        prev2 = predecessors.get(e2);
+        found2 = matches(nodeAfter(prev2).getElement(), e2, byEquals);
+      }
+    } else {                                 // one walk finds both predecessors
+      Node<E> prev = null;
+      for (Node<E> walk = head; walk != null && !(found1 && found2); walk = walk.getNext()) {
+        if (!found1 && matches(walk.getElement(), e1, byEquals)) {
+          prev1 = prev;
+          found1 = true;
+        } else if (!found2 && matches(walk.getElement(), e2, byEquals)) {
+          prev2 = prev;
+          found2 = true;
+        }
+        prev = walk;
+      }
+    }
+    if (!found1 || !found2) return SwapResult.NOT_FOUND;
+    swapAfter(prev1, prev2);
+    return SwapResult.SWAPPED;
+  }
+
+  /**
+   * Maintains a hash index from each element to its predecessor node so
+   * that swapNodes runs in constant time. The index requires distinct
+   * elements; it is dropped if a duplicate is ever stored.
+   * @return true if the index is active, false if the list has duplicates
+   */
+  public boolean enableSwapIndex() {
+    predecessors = new HashMap<>();
+    Node<E> prev = null;
+    for (Node<E> walk = head; walk != null; walk = walk.getNext()) {
+      if (!indexPredecessor(walk.getElement(), prev)) return false;
+      prev = walk;
+    }
+    return true;
+  }
+
+  /** Drops the swap index, so that swapNodes walks the list. */
+  public void disableSwapIndex() { predecessors = null; }
+
+  /** Tests whether two elements match by identity or by equals. */
+  private static boolean matches(Object a, Object b, boolean byEquals) {
+    return byEquals ? Objects.equals(a, b) : a == b;
+  }
+
+  /** Returns the node following the given predecessor (or the head if null). */
+  private Node<E> nodeAfter(Node<E> prev) {
+    return (prev == null) ? head : prev.getNext();
+  }
+
+  /**
+   * Records the predecessor of an element in the swap index, dropping
+   * the index if the element is already present.
+   * @return false if the index had to be dropped
+   */
+  private boolean indexPredecessor(E e, Node<E> prev) {
+    if (predecessors.containsKey(e)) {      // duplicates cannot be indexed
+      predecessors = null;
+      return false;
+    }
+    predecessors.put(e, prev);
+    return true;
+  }
+
+  /**
+   * Exchanges the positions of the nodes following the given predecessors
+   * (null designating the head). The nodes may be adjacent.
+   */
+  private void swapAfter(Node<E> prev1, Node<E> prev2) {
+    Node<E> node1 = nodeAfter(prev1);
+    Node<E> node2 = nodeAfter(prev2);
+    if (prev1 == null) head = node2; else prev1.setNext(node2);
+    if (prev2 == null) head = node1; else prev2.setNext(node1);
+    Node<E> temp = node1.getNext();          // also correct when adjacent
+    node1.setNext(node2.getNext());
+    node2.setNext(temp);
+    if (tail == node1) tail = node2;
+    else if (tail == node2) tail = node1;
+    hashValid = false;                       // positions changed; recompute lazily
+    if (predecessors != null) {
+      predecessors.put(node2.getElement(), (prev1 == node2) ? node1 : prev1);
+      predecessors.put(node1.getElement(), (prev2 == node1) ? node2 : prev2);
+      if (node1.getNext() != null) predecessors.put(node1.getNext().getElement(), node1);
+      if (node2.getNext() != null) predecessors.put(node2.getNext().getElement(), node2);
+    }
+  }
+
   //main method
   public static void main(String[] args)
   {	  
@@ -311,9 +656,14 @@ public class SinglyLinkedList<E> implements Cloneable {
 	  System.out.println(list);
 	  
 	  // Call swap the swapNodes
-	  list.swapNodes("LAX","MSP");
+	  System.out.println(list.swapNodes("LAX","MSP"));
 	  System.out.println(list);
 	  
+	  // Swap again using the equals-based mode and the predecessor index
+	  list.enableSwapIndex();
+	  System.out.println(list.swapNodes(new String("MSP"), "BOS", true));
+	  System.out.println(list + " last: " + list.last());
+	  
 	  //
   }
   
@@ -0,0 +1,225 @@
+package linkedlists;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical hashed timing wheel, which schedules, cancels and expires
+ * timers in constant time. Time advances in whole ticks under the control
+ * of the caller. Each wheel is a ring of slots whose cursor moves forward
+ * one slot per tick of the wheel, and each slot is a
+ * {@link DoublyLinkedList} of timers, so that a cancelled timer is
+ * unlinked through its node without searching.
+ *
+ * The wheel of level 0 has one slot per tick; each slot of the wheel of
+ * level L spans a whole revolution of the wheel of level L-1. A timer goes
+ * on the lowest wheel whose revolution contains its deadline. When a
+ * cursor reaches a slot of a higher wheel, the timers of that slot move
+ * down to lower wheels. Higher wheels are created when first needed. The
+ * wheel is not thread-safe.
+ */
+public class TimingWheel<E> {
+
+  //---------------- nested Timer class ----------------
+  /** A scheduled task, which may be used to cancel it. */
+  public static final class Timer<E> {
+    private final E task;
+    private final long deadline;
+    private final TimingWheel<E> wheel;                  // the owner of the timer
+    private DoublyLinkedList<Timer<E>> slot;            // null once expired or cancelled
+    private DoublyLinkedList.Node<Timer<E>> node;        // node of the timer in its slot
+
+    private Timer(E task, long deadline, TimingWheel<E> wheel) {
+      this.task = task;
+      this.deadline = deadline;
+      this.wheel = wheel;
+    }
+
+    /** @return the scheduled task */
+    public E getTask() { return task; }
+
+    /** @return the tick at which the timer expires */
+    public long getDeadline() { return deadline; }
+
+    /** @return true if the timer has neither expired nor been cancelled */
+    public boolean isPending() { return slot != null; }
+  } //----------- end of nested Timer class -----------
+
+  /** Largest supported number of slots per wheel */
+  public static final int MAX_WHEEL_SIZE = 1 << 16;
+
+  // instance variables of the TimingWheel
+  /** log2 of the number of slots of each wheel */
+  private final int bits;
+
+  /** Number of slots of each wheel, less one */
+  private final int mask;
+
+  /** Slots of each wheel, from level 0 upwards */
+  private final List<DoublyLinkedList<Timer<E>>[]> wheels = new ArrayList<>();
+
+  /** The current tick */
+  private long now = 0;
+
+  /** Number of pending timers */
+  private int size = 0;
+
+  /**
+   * Constructs a timing wheel at tick 0.
+   * @param wheelSize  number of slots of each wheel (a power of two)
+   * @throws IllegalArgumentException if wheelSize is not a power of two
+   *         between 2 and {@link #MAX_WHEEL_SIZE}
+   */
+  public TimingWheel(int wheelSize) {
+    if (wheelSize < 2 || wheelSize > MAX_WHEEL_SIZE || Integer.bitCount(wheelSize) != 1)
+      throw new IllegalArgumentException("Wheel size must be a power of two between 2 and " + MAX_WHEEL_SIZE);
+    bits = Integer.numberOfTrailingZeros(wheelSize);
+    mask = wheelSize - 1;
+    addWheel();
+  }
+
+  // access methods
+  /**
+   * Returns the current tick.
+   * @return the current tick
+   */
+  public long now() { return now; }
+
+  /**
+   * Returns the number of pending timers.
+   * @return number of pending timers
+   */
+  public int size() { return size; }
+
+  /**
+   * Tests whether no timer is pending.
+   * @return true if no timer is pending, false otherwise
+   */
+  public boolean isEmpty() { return size == 0; }
+
+  // update methods
+  /**
+   * Schedules a task to expire after the given number of ticks. A delay
+   * of 0 expires on the next tick.
+   * @param task   the task
+   * @param delay  number of ticks from now
+   * @return the timer of the task
+   * @throws IllegalArgumentException if delay is negative, or the deadline
+   *         would lie beyond Long.MAX_VALUE
+   */
+  public Timer<E> schedule(E task, long delay) {
+    if (delay < 0) throw new IllegalArgumentException("Delay must not be negative");
+    if (Math.max(delay, 1) > Long.MAX_VALUE - now) throw new IllegalArgumentException("Deadline beyond Long.MAX_VALUE");
+    Timer<E> timer = new Timer<>(task, now + Math.max(delay, 1), this);
+    place(timer);
+    size++;
+    return timer;
+  }
+
+  /**
+   * Cancels the given timer, so that it never expires.
+   * @param timer  a timer scheduled on this wheel
+   * @return true if the timer was pending, false if it had already expired or been cancelled
+   * @throws IllegalArgumentException if the timer belongs to another wheel
+   */
+  public boolean cancel(Timer<E> timer) {
+    if (timer.wheel != this) throw new IllegalArgumentException("Timer of another wheel");
+    if (timer.slot == null) return false;
+    timer.slot.remove(timer.node);
+    timer.slot = null;
+    timer.node = null;
+    size--;
+    return true;
+  }
+
+  /**
+   * Advances time by the given number of ticks, passing the task of each
+   * timer that expires to the given action, in order of deadline.
+   * @param ticks   number of ticks to advance
+   * @param action  receives the tasks of the expired timers
+   * @return the number of timers that expired
+   * @throws IllegalArgumentException if ticks is negative, or time would
+   *         pass Long.MAX_VALUE
+   */
+  public int advance(long ticks, Consumer<? super E> action) {
+    if (ticks < 0) throw new IllegalArgumentException("Ticks must not be negative");
+    if (ticks > Long.MAX_VALUE - now) throw new IllegalArgumentException("Time beyond Long.MAX_VALUE");
+    int expired = 0;
+    for (; ticks > 0; ticks--) {
+      if (size == 0) {                       // nothing can expire meanwhile
+        now += ticks;
+        break;
+      }
+      expired += tick(action);
+    }
+    return expired;
+  }
+
+  // private utilities
+  /** Moves to the next tick, cascading higher slots and expiring timers. */
+  private int tick(Consumer<? super E> action) {
+    now++;
+    for (int level = wheels.size() - 1; level > 0; level--)
+      if ((now & ((1L << shift(level)) - 1)) == 0)     // cursor of this wheel moved
+        cascade(wheels.get(level)[slotIndex(now, level)]);
+    DoublyLinkedList<Timer<E>> due = wheels.get(0)[slotIndex(now, 0)];
+    int expired = 0;
+    while (!due.isEmpty()) {
+      Timer<E> timer = due.removeFirst();
+      timer.slot = null;
+      timer.node = null;
+      size--;
+      expired++;
+      action.accept(timer.task);
+    }
+    return expired;
+  }
+
+  /** Moves every timer of the given slot to the wheel it now belongs to. */
+  private void cascade(DoublyLinkedList<Timer<E>> slot) {
+    while (!slot.isEmpty())
+      place(slot.removeFirst());
+  }
+
+  /** Adds the timer to the slot of the lowest wheel whose revolution holds its deadline. */
+  private void place(Timer<E> timer) {
+    int level = 0;
+    while (shift(level + 1) < Long.SIZE
+           && (timer.deadline >>> shift(level + 1)) != (now >>> shift(level + 1)))
+      level++;                               // deadline lies beyond this wheel's revolution
+    while (level >= wheels.size())
+      addWheel();                            // overflow into a new, coarser wheel
+    DoublyLinkedList<Timer<E>> slot = wheels.get(level)[slotIndex(timer.deadline, level)];
+    timer.slot = slot;
+    timer.node = slot.addLastNode(timer);
+  }
+
+  /** Returns the number of tick bits below the slot bits of the given level. */
+  private int shift(int level) { return bits * level; }
+
+  /** Returns the slot of the given level that holds the given tick. */
+  private int slotIndex(long tick, int level) { return (int) (tick >>> shift(level)) & mask; }
+
+  /** Creates the wheel of the next level. */
+  private void addWheel() {
+    DoublyLinkedList<Timer<E>>[] slots = newSlots(mask + 1);
+    for (int j = 0; j < slots.length; j++)
+      slots[j] = new DoublyLinkedList<>();
+    wheels.add(slots);
+  }
+
+  /** Returns an array of the given number of empty slot references. */
+  @SuppressWarnings("unchecked")
+  private static <E> DoublyLinkedList<Timer<E>>[] newSlots(int n) {
+    return (DoublyLinkedList<Timer<E>>[]) new DoublyLinkedList<?>[n];
+  }
+
+  /**
+   * Produces a string representation of the wheel: the current tick and
+   * the number of pending timers. This exists for debugging purposes only.
+   */
+  public String toString() {
+    return "(now=" + now + ", pending=" + size + ", wheels=" + wheels.size() + ")";
+  }
+}
@@ -0,0 +1,264 @@
+package linkedlists;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A singly linked list that stores its elements in fixed-size array
+ * chunks rather than one node per element. It offers the same API as
+ * {@link SinglyLinkedList}, but traversals touch far fewer objects and
+ * the per-element overhead is a single array slot.
+ */
+public class UnrolledSinglyLinkedList<E> implements Cloneable, Iterable<E> {
+  //---------------- nested Chunk class ----------------
+  /**
+   * Node of an unrolled list, which stores a run of elements in the slots
+   * [start, end) of an array and a reference to the subsequent chunk.
+   */
+  private static class Chunk {
+
+    /** The elements stored at this chunk */
+    private final Object[] elements;
+
+    /** Index of the first occupied slot */
+    private int start;
+
+    /** Index just past the last occupied slot */
+    private int end;
+
+    /** A reference to the subsequent chunk in the list */
+    private Chunk next;
+
+    /**
+     * Creates an empty chunk whose occupied range begins at the given slot.
+     *
+     * @param capacity  number of slots in the chunk
+     * @param offset    slot at which the occupied range starts (and ends)
+     */
+    public Chunk(int capacity, int offset) {
+      elements = new Object[capacity];
+      start = offset;
+      end = offset;
+    }
+  } //----------- end of nested Chunk class -----------
+
+  /** Number of elements per chunk used by the default constructor */
+  public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+  // instance variables of the UnrolledSinglyLinkedList
+  /** Number of slots in each chunk */
+  private final int chunkCapacity;
+
+  /** The first chunk of the list */
+  private Chunk head = null;                 // first chunk (or null if empty)
+
+  /** The last chunk of the list */
+  private Chunk tail = null;                 // last chunk (or null if empty)
+
+  /** Number of elements in the list */
+  private int size = 0;                      // number of elements in the list
+
+  /** Constructs an initially empty list with the default chunk capacity. */
+  public UnrolledSinglyLinkedList() { this(DEFAULT_CHUNK_CAPACITY); }
+
+  /**
+   * Constructs an initially empty list.
+   * @param chunkCapacity  number of elements stored per chunk
+   * @throws IllegalArgumentException if chunkCapacity is not positive
+   */
+  public UnrolledSinglyLinkedList(int chunkCapacity) {
+    if (chunkCapacity < 1) throw new IllegalArgumentException("Chunk capacity must be positive");
+    this.chunkCapacity = chunkCapacity;
+  }
+
+  // access methods
+  /**
+   * Returns the number of elements in the linked list.
+   * @return number of elements in the linked list
+   */
+  public int size() { return size; }
+
+  /**
+   * Tests whether the linked list is empty.
+   * @return true if the linked list is empty, false otherwise
+   */
+  public boolean isEmpty() { return size == 0; }
+
+  /**
+   * Returns (but does not remove) the first element of the list
+   * @return element at the front of the list (or null if empty)
+   */
+  @SuppressWarnings({"unchecked"})
+  public E first() {
+    if (isEmpty()) return null;
+    return (E) head.elements[head.start];
+  }
+
+  /**
+   * Returns (but does not remove) the last element of the list.
+   * @return element at the end of the list (or null if empty)
+   */
+  @SuppressWarnings({"unchecked"})
+  public E last() {
+    if (isEmpty()) return null;
+    return (E) tail.elements[tail.end - 1];
+  }
+
+  /**
+   * Performs the given action on each element of the list, in order.
+   * @param action  the action to perform
+   */
+  @SuppressWarnings({"unchecked"})
+  public void forEach(Consumer<? super E> action) {
+    for (Chunk walk = head; walk != null; walk = walk.next)
+      for (int j = walk.start; j < walk.end; j++)
+        action.accept((E) walk.elements[j]);
+  }
+
+  /**
+   * Returns an iterator over the elements of the list, in order. The list
+   * must not be modified while the iterator is in use.
+   * @return an iterator over the elements of the list
+   */
+  public Iterator<E> iterator() { return new ElementIterator(); }
+
+  //---------------- nested ElementIterator class ----------------
+  /** Iterator over the elements of the list, walking the slots of each chunk. */
+  private class ElementIterator implements Iterator<E> {
+    private Chunk chunk = head;              // chunk of the next element to report
+    private int slot = (head == null) ? 0 : head.start;
+
+    public boolean hasNext() { return chunk != null; }
+
+    @SuppressWarnings({"unchecked"})
+    public E next() {
+      if (chunk == null) throw new NoSuchElementException("No more elements");
+      E answer = (E) chunk.elements[slot++];
+      if (slot == chunk.end) {               // move on to the next chunk
+        chunk = chunk.next;
+        if (chunk != null) slot = chunk.start;
+      }
+      return answer;
+    }
+  } //----------- end of nested ElementIterator class -----------
+
+  // update methods
+  /**
+   * Adds an element to the front of the list.
+   * @param e  the new element to add
+   */
+  public void addFirst(E e) {
+    if (head == null || head.start == 0) {   // no room before the first element
+      Chunk newest = new Chunk(chunkCapacity, chunkCapacity);  // fill from the back
+      newest.next = head;
+      head = newest;
+      if (tail == null) tail = head;         // special case: previously empty list
+    }
+    head.elements[--head.start] = e;
+    size++;
+  }
+
+  /**
+   * Adds an element to the end of the list.
+   * @param e  the new element to add
+   */
+  public void addLast(E e) {
+    if (tail == null || tail.end == chunkCapacity) {  // no room after the last element
+      Chunk newest = new Chunk(chunkCapacity, 0);       // fill from the front
+      if (tail == null)
+        head = newest;                       // special case: previously empty list
+      else
+        tail.next = newest;
+      tail = newest;
+    }
+    tail.elements[tail.end++] = e;
+    size++;
+  }
+
+  /**
+   * Removes and returns the first element of the list.
+   * @return the removed element (or null if empty)
+   */
+  @SuppressWarnings({"unchecked"})
+  public E removeFirst() {
+    if (isEmpty()) return null;              // nothing to remove
+    E answer = (E) head.elements[head.start];
+    head.elements[head.start++] = null;      // help garbage collection
+    size--;
+    if (head.start == head.end) {            // chunk is exhausted
+      head = head.next;
+      if (head == null) tail = null;         // special case as list is now empty
+    }
+    return answer;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  public boolean equals(Object o) {
+    if (o == null) return false;
+    if (getClass() != o.getClass()) return false;
+    UnrolledSinglyLinkedList other = (UnrolledSinglyLinkedList) o;  // use nonparameterized type
+    if (size != other.size) return false;
+    Chunk chunkB = other.head;                // traverse the secondary list
+    int slotB = (chunkB == null) ? 0 : chunkB.start;
+    for (Chunk chunkA = head; chunkA != null; chunkA = chunkA.next) {
+      for (int slotA = chunkA.start; slotA < chunkA.end; slotA++) {
+        if (slotB == chunkB.end) {            // advance to the next chunk of the other list
+          chunkB = chunkB.next;
+          slotB = chunkB.start;
+        }
+        if (!Objects.equals(chunkA.elements[slotA], chunkB.elements[slotB++])) return false;  // mismatch
+      }
+    }
+    return true;   // if we reach this, everything matched successfully
+  }
+
+  @SuppressWarnings({"unchecked"})
+  public UnrolledSinglyLinkedList<E> clone() throws CloneNotSupportedException {
+    // always use inherited Object.clone() to create the initial copy
+    UnrolledSinglyLinkedList<E> other = (UnrolledSinglyLinkedList<E>) super.clone(); // safe cast
+    other.head = other.tail = null;          // we need independent chain of chunks
+    for (Chunk walk = head; walk != null; walk = walk.next) {
+      Chunk newest = new Chunk(chunkCapacity, walk.start);
+      System.arraycopy(walk.elements, walk.start, newest.elements, walk.start, walk.end - walk.start);
+      newest.end = walk.end;
+      if (other.tail == null)
+        other.head = newest;
+      else
+        other.tail.next = newest;
+      other.tail = newest;
+    }
+    return other;
+  }
+
+  /**
+   * Returns the same hash code as a {@link SinglyLinkedList} holding the
+   * same elements.
+   */
+  public int hashCode() {
+    int h = 0;
+    for (Chunk walk = head; walk != null; walk = walk.next)
+      for (int j = walk.start; j < walk.end; j++) {
+        h ^= Objects.hashCode(walk.elements[j]);  // bitwise exclusive-or with element's code
+        h = (h << 5) | (h >>> 27);            // 5-bit cyclic shift of composite code
+      }
+    return h;
+  }
+
+  /**
+   * Produces a string representation of the contents of the list.
+   * This exists for debugging purposes only.
+   */
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    for (Chunk walk = head; walk != null; walk = walk.next)
+      for (int j = walk.start; j < walk.end; j++) {
+        if (walk != head || j != walk.start)
+          sb.append(", ");
+        sb.append(walk.elements[j]);
+      }
+    sb.append(")");
+    return sb.toString();
+  }
+}
@@ -0,0 +1,59 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ArrayCircularListTest {
+
+  @Test
+  void matchesCircularlyLinkedList() {
+    Random random = new Random(8);
+    for (int capacity : new int[] {0, 1, 3, 16}) {
+      ArrayCircularList<Integer> list = new ArrayCircularList<>(capacity);
+      CircularlyLinkedList<Integer> expected = new CircularlyLinkedList<>();
+      for (int i = 0; i < 100000; i++) {
+        switch (random.nextInt(6)) {
+          case 0: list.addFirst(i); expected.addFirst(i); break;
+          case 1: list.addLast(i); expected.addLast(i); break;
+          case 2:
+          case 3: assertEquals(expected.removeFirst(), list.removeFirst()); break;
+          default: list.rotate(); expected.rotate();
+        }
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected.first(), list.first());
+        assertEquals(expected.last(), list.last());
+        if (i % 997 == 0) assertEquals(expected.toString(), list.toString());
+      }
+    }
+  }
+
+  @Test
+  void growsAfterRotation() {
+    ArrayCircularList<Integer> list = new ArrayCircularList<>(4);
+    for (int i = 0; i < 4; i++)
+      list.addLast(i);
+    list.rotate();
+    list.rotate();
+    list.addLast(9);                             // forces the array to grow
+    assertEquals("(2, 3, 0, 1, 9)", list.toString());
+    List<Integer> visited = new ArrayList<>();
+    list.forEach(visited::add);
+    assertEquals(List.of(2, 3, 0, 1, 9), visited);
+  }
+
+  @Test
+  void emptyList() {
+    ArrayCircularList<Integer> list = new ArrayCircularList<>(0);
+    assertNull(list.first());
+    assertNull(list.last());
+    assertNull(list.removeFirst());
+    list.rotate();
+    assertEquals("()", list.toString());
+  }
+}
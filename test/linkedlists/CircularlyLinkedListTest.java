@@ -0,0 +1,87 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CircularlyLinkedListTest {
+
+  @Test
+  void emptyList() {
+    CircularlyLinkedList<String> list = new CircularlyLinkedList<>();
+    list.rotate();
+    assertNull(list.first());
+    assertNull(list.last());
+    assertNull(list.removeFirst());
+  }
+
+  @Test
+  void matchesDequeUnderRandomOperations() {
+    Random random = new Random(3);
+    CircularlyLinkedList<Integer> list = new CircularlyLinkedList<>();
+    Deque<Integer> expected = new ArrayDeque<>();
+    for (int op = 0; op < 20000; op++) {
+      int v = random.nextInt(100);
+      switch (random.nextInt(4)) {
+        case 0: list.addFirst(v); expected.addFirst(v); break;
+        case 1: list.addLast(v); expected.addLast(v); break;
+        case 2: assertEquals(expected.pollFirst(), list.removeFirst()); break;
+        default:
+          list.rotate();
+          if (!expected.isEmpty()) expected.addLast(expected.pollFirst());
+      }
+      assertEquals(expected.size(), list.size());
+      assertEquals(expected.peekFirst(), list.first());
+      assertEquals(expected.peekLast(), list.last());
+    }
+    List<Integer> seen = new ArrayList<>();
+    list.forEach(seen::add);
+    assertEquals(new ArrayList<>(expected), seen);
+  }
+
+  @Test
+  void writeToAndTruncatedToString() throws IOException {
+    CircularlyLinkedList<String> list = new CircularlyLinkedList<>();
+    assertEquals("()", list.toString(0));
+    StringBuilder sb = new StringBuilder();
+    list.writeTo(sb);
+    assertEquals("()", sb.toString());
+    for (String s : new String[] {"a", null, "c"})
+      list.addLast(s);
+    assertEquals("(a, null, c)", list.toString());
+    assertEquals("(...)", list.toString(0));
+    assertEquals("(a, ...)", list.toString(1));
+    assertEquals("(a, null, c)", list.toString(3));
+    assertEquals("(a, null, c)", list.toString(4));
+    sb.setLength(0);
+    list.writeTo(sb, 2);
+    assertEquals("(a, null, ...)", sb.toString());
+    assertThrows(IllegalArgumentException.class, () -> list.toString(-1));
+  }
+
+  @Test
+  void writeToPropagatesIOException() {
+    CircularlyLinkedList<Integer> list = new CircularlyLinkedList<>();
+    for (int i = 0; i < 5; i++)
+      list.addLast(i);
+    for (int appends = 0; appends < 11; appends++) {
+      FailingAppendable out = new FailingAppendable(appends);
+      assertThrows(IOException.class, () -> list.writeTo(out));
+      assertTrue("(0, 1, 2, 3, 4)".startsWith(out.toString()));
+    }
+    FailingAppendable out = new FailingAppendable(3);
+    assertThrows(IOException.class, () -> list.writeTo(out, 1));
+    assertEquals("(0, ", out.toString());
+    assertEquals(5, list.size());
+  }
+}
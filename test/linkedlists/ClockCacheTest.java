@@ -0,0 +1,88 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class ClockCacheTest {
+
+  /** Every value the cache returns must be the last one put, and eviction must respect capacity. */
+  @Test
+  void agreesWithMapOnSurvivingEntries() {
+    Random random = new Random(3);
+    for (int capacity : new int[] {0, 1, 2, 7, 64}) {
+      ClockCache<Integer, Integer> cache = new ClockCache<>(capacity);
+      Map<Integer, Integer> expected = new HashMap<>();
+      for (int i = 0; i < 50000; i++) {
+        int k = random.nextInt(capacity * 3 + 2);
+        switch (random.nextInt(4)) {
+          case 0:
+          case 1: {
+            Integer v = cache.get(k);
+            if (v != null) assertEquals(expected.get(k), v);
+            break;
+          }
+          case 2: {
+            Integer old = cache.put(k, i);
+            if (old != null) assertEquals(expected.get(k), old);
+            if (capacity > 0) expected.put(k, i);
+            break;
+          }
+          default: {
+            Integer v = cache.remove(k);
+            Integer e = expected.remove(k);
+            if (v != null) assertEquals(e, v);
+          }
+        }
+        expected.keySet().removeIf(key -> !cache.containsKey(key));   // drop evicted entries
+        assertTrue(cache.size() <= capacity);
+        assertEquals(expected.size(), cache.size());
+      }
+    }
+  }
+
+  @Test
+  void referencedEntryGetsSecondChance() {
+    ClockCache<String, String> cache = new ClockCache<>(2);
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.get("a");
+    cache.put("c", "3");
+    assertTrue(cache.containsKey("a"));
+    assertFalse(cache.containsKey("b"));
+    assertNull(cache.get("b"));
+    assertEquals(1, cache.evictionCount());
+  }
+
+  @Test
+  void concurrentReadersAndWriters() throws InterruptedException {
+    ClockCache<Integer, Integer> cache = new ClockCache<>(100);
+    AtomicBoolean wrong = new AtomicBoolean();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      final long seed = t;
+      threads[t] = new Thread(() -> {
+        Random random = new Random(seed);
+        for (int i = 0; i < 200000; i++) {
+          int k = random.nextInt(300);
+          Integer v = cache.get(k);
+          if (v == null) cache.put(k, k);
+          else if (v != k) wrong.set(true);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread t : threads)
+      t.join();
+    assertFalse(wrong.get());
+    assertTrue(cache.size() <= 100);
+  }
+}
@@ -0,0 +1,147 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDoublyLinkedListTest {
+
+  /** Number of elements passed through each concurrent test */
+  private static final int N = 200000;
+
+  /** Size above which producers wait, so that the size keeps crossing MIN_INDEPENDENT_SIZE */
+  private static final int MAX_SMALL = ConcurrentDoublyLinkedList.MIN_INDEPENDENT_SIZE;
+
+  @Test
+  void singleThreadedDeque() {
+    ConcurrentDoublyLinkedList<Integer> list = new ConcurrentDoublyLinkedList<>();
+    assertNull(list.first());
+    assertNull(list.last());
+    assertNull(list.removeFirst());
+    assertNull(list.removeLast());
+    for (int i = 0; i < 5; i++) {
+      list.addLast(i);
+      list.addFirst(-i);
+    }
+    assertEquals("(-4, -3, -2, -1, 0, 0, 1, 2, 3, 4)", list.toString());
+    assertEquals(-4, list.first());
+    assertEquals(4, list.last());
+    for (int i = 4; i >= 0; i--) {
+      assertEquals(i, list.removeLast());
+      assertEquals(-i, list.removeFirst());
+    }
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  void addFirstRemoveLastAcrossSmallSizes() throws InterruptedException {
+    handOff(true);
+  }
+
+  @Test
+  void addLastRemoveFirstAcrossSmallSizes() throws InterruptedException {
+    handOff(false);
+  }
+
+  /**
+   * One thread adds at one end while another removes at the other, with
+   * the size held to at most four, so that updates keep switching between
+   * one and both locks. Elements must come out once each, in order.
+   */
+  private static void handOff(boolean front) throws InterruptedException {
+    ConcurrentDoublyLinkedList<Integer> list = new ConcurrentDoublyLinkedList<>();
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < N; i++) {
+        while (list.size() > MAX_SMALL)
+          Thread.yield();
+        if (front) list.addFirst(i);
+        else list.addLast(i);
+      }
+    });
+    AtomicBoolean wrong = new AtomicBoolean();
+    Thread consumer = new Thread(() -> {
+      int expected = 0;
+      while (expected < N) {
+        Integer v = front ? list.removeLast() : list.removeFirst();
+        if (v == null) {
+          Thread.yield();
+          continue;
+        }
+        if (v != expected) wrong.set(true);
+        expected++;
+      }
+    });
+    producer.start();
+    consumer.start();
+    producer.join();
+    consumer.join();
+    assertFalse(wrong.get());
+    assertTrue(list.isEmpty());
+    assertEquals("()", list.toString());
+  }
+
+  /**
+   * A thread at each end adds and removes at random while the size stays
+   * small. Afterwards every element added has been removed exactly once
+   * or is still in the list, and the next links (read by toString) agree with the prev
+   * links (read by removeLast).
+   */
+  @Test
+  void bothEndsAtSmallSizes() throws InterruptedException {
+    ConcurrentDoublyLinkedList<Integer> list = new ConcurrentDoublyLinkedList<>();
+    List<List<Integer>> added = new ArrayList<>();
+    List<List<Integer>> removed = new ArrayList<>();
+    Thread[] threads = new Thread[2];
+    for (int t = 0; t < 2; t++) {
+      final boolean front = (t == 0);
+      List<Integer> ours = new ArrayList<>();
+      List<Integer> mine = new ArrayList<>();
+      added.add(ours);
+      removed.add(mine);
+      threads[t] = new Thread(() -> {
+        Random random = new Random(front ? 1 : 2);
+        for (int i = 0; i < N; i++) {
+          Integer v = front ? -i - 1 : i + 1;
+          boolean add = list.size() <= 1 || (list.size() < 2 * MAX_SMALL && random.nextBoolean());
+          if (add) {
+            ours.add(v);
+            if (front) list.addFirst(v);
+            else list.addLast(v);
+          } else {
+            Integer e = front ? list.removeFirst() : list.removeLast();
+            if (e != null) mine.add(e);
+          }
+        }
+      });
+    }
+    for (Thread t : threads)
+      t.start();
+    for (Thread t : threads)
+      t.join();
+    String forwards = list.toString();
+    List<Integer> backwards = new ArrayList<>();
+    for (Integer e = list.removeLast(); e != null; e = list.removeLast())
+      backwards.add(e);
+    Collections.reverse(backwards);
+    assertEquals(forwards, backwards.toString().replace('[', '(').replace(']', ')'));
+    List<Integer> out = new ArrayList<>(backwards);
+    List<Integer> in = new ArrayList<>();
+    for (int t = 0; t < 2; t++) {
+      out.addAll(removed.get(t));
+      in.addAll(added.get(t));
+    }
+    Collections.sort(out);
+    Collections.sort(in);
+    assertEquals(in, out);                       // nothing lost or duplicated
+    assertEquals(0, list.size());
+  }
+}
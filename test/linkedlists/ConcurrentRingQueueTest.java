@@ -0,0 +1,98 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentRingQueueTest {
+
+  @Test
+  void capacityIsRoundedUpToPowerOfTwo() {
+    assertEquals(4, new ConcurrentRingQueue<Integer>(3).capacity());
+    assertEquals(1, new ConcurrentRingQueue<Integer>(1).capacity());
+    assertEquals(64, new ConcurrentRingQueue<Integer>(64, true).capacity());
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentRingQueue<Integer>(0));
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentRingQueue<Integer>((1 << 30) + 1));
+  }
+
+  @Test
+  void fullAndEmpty() {
+    ConcurrentRingQueue<Integer> q = new ConcurrentRingQueue<>(3);
+    assertTrue(q.isEmpty());
+    assertNull(q.removeFirst());
+    for (int i = 0; i < 4; i++)
+      assertTrue(q.addLast(i));
+    assertFalse(q.addLast(9));                    // full
+    assertEquals(4, q.size());
+    assertEquals(0, q.removeFirst());
+    List<Integer> drained = new ArrayList<>();
+    assertEquals(2, q.drainTo(drained::add, 2));
+    assertEquals(List.of(1, 2), drained);
+    assertEquals(3, q.removeFirst());
+    assertNull(q.removeFirst());
+    assertEquals(0, q.drainTo(drained::add, 10));
+    assertTrue(q.isEmpty());
+  }
+
+  @Test
+  void singleProducerKeepsOrder() throws InterruptedException { transfer(false, 1); }
+
+  @Test
+  void multipleProducersKeepEachProducersOrder() throws InterruptedException { transfer(true, 3); }
+
+  /** Moves elements from the producers to this thread, checking each producer's order. */
+  private static void transfer(boolean multi, int producers) throws InterruptedException {
+    final int n = 200000;
+    ConcurrentRingQueue<Integer> q = new ConcurrentRingQueue<>(64, multi);
+    Thread[] threads = new Thread[producers];
+    for (int p = 0; p < producers; p++) {
+      final int id = p;
+      threads[p] = new Thread(() -> {
+        for (int i = 0; i < n; i++) {
+          Integer v = id * n + i;
+          while (!q.addLast(v))
+            Thread.yield();
+        }
+      });
+      threads[p].start();
+    }
+    int[] last = new int[producers];
+    Arrays.fill(last, -1);
+    Random random = new Random(3);
+    int total = 0;
+    while (total < producers * n) {
+      int taken;
+      if (random.nextBoolean()) {
+        Integer v = q.removeFirst();
+        taken = 0;
+        if (v != null) {
+          check(last, v, n);
+          taken = 1;
+        }
+      } else {
+        taken = q.drainTo(v -> check(last, v, n), 1 + random.nextInt(20));
+      }
+      if (taken == 0) Thread.yield();
+      total += taken;
+    }
+    for (Thread t : threads)
+      t.join();
+    assertNull(q.removeFirst());
+    assertEquals(0, q.size());
+  }
+
+  private static void check(int[] last, int v, int n) {
+    int id = v / n;
+    assertEquals(last[id] + 1, v % n);
+    last[id] = v % n;
+  }
+}
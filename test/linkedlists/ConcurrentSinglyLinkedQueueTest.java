@@ -0,0 +1,92 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentSinglyLinkedQueueTest {
+
+  @Test
+  void singleThreadedFifo() {
+    ConcurrentSinglyLinkedQueue<Integer> q = new ConcurrentSinglyLinkedQueue<>();
+    assertTrue(q.isEmpty());
+    assertNull(q.first());
+    assertNull(q.removeFirst());
+    for (int i = 0; i < 5; i++)
+      q.addLast(i);
+    assertEquals(5, q.size());
+    assertEquals(0, q.first());
+    assertEquals("(0, 1, 2, 3, 4)", q.toString());
+    for (int i = 0; i < 5; i++)
+      assertEquals(i, q.removeFirst());
+    assertTrue(q.isEmpty());
+    assertEquals(0, q.size());
+    assertThrows(NullPointerException.class, () -> q.addLast(null));
+  }
+
+  /**
+   * Several producers and consumers: every element comes out exactly once,
+   * each consumer sees each producer's elements in order, and size never
+   * goes negative.
+   */
+  @Test
+  void multipleProducersAndConsumers() throws InterruptedException {
+    final int producers = 3, consumers = 3, n = 100000;
+    ConcurrentSinglyLinkedQueue<Integer> q = new ConcurrentSinglyLinkedQueue<>();
+    AtomicInteger taken = new AtomicInteger();
+    AtomicBoolean wrong = new AtomicBoolean();
+    List<int[]> seen = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int p = 0; p < producers; p++) {
+      final int id = p;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < n; i++)
+          q.addLast(id * n + i);
+      }));
+    }
+    for (int c = 0; c < consumers; c++) {
+      int[] counts = new int[producers * n];
+      seen.add(counts);
+      threads.add(new Thread(() -> {
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        while (taken.get() < producers * n) {
+          if (q.size() < 0) wrong.set(true);
+          Integer v = q.removeFirst();
+          if (v == null) {
+            Thread.yield();
+            continue;
+          }
+          taken.incrementAndGet();
+          counts[v]++;
+          int id = v / n;
+          if (v % n <= last[id]) wrong.set(true);  // out of order for this producer
+          last[id] = v % n;
+        }
+      }));
+    }
+    for (Thread t : threads)
+      t.start();
+    for (Thread t : threads)
+      t.join();
+    assertFalse(wrong.get());
+    for (int v = 0; v < producers * n; v++) {
+      int total = 0;
+      for (int[] counts : seen)
+        total += counts[v];
+      assertEquals(1, total, "element " + v);
+    }
+    assertTrue(q.isEmpty());
+    assertEquals(0, q.size());
+  }
+}
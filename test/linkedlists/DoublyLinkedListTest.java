@@ -0,0 +1,406 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class DoublyLinkedListTest {
+
+  /** Returns the elements of the list, walking forwards. */
+  static <E> List<E> contents(DoublyLinkedList<E> list) {
+    List<E> result = new ArrayList<>();
+    list.forEach(result::add);
+    return result;
+  }
+
+  @Test
+  void emptyList() {
+    DoublyLinkedList<String> list = new DoublyLinkedList<>();
+    assertTrue(list.isEmpty());
+    assertNull(list.first());
+    assertNull(list.last());
+    assertNull(list.removeFirst());
+    assertNull(list.removeLast());
+  }
+
+  @Test
+  void matchesDequeUnderRandomOperations() {
+    Random random = new Random(2);
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    Deque<Integer> expected = new ArrayDeque<>();
+    for (int op = 0; op < 20000; op++) {
+      int v = random.nextInt(100);
+      switch (random.nextInt(4)) {
+        case 0: list.addFirst(v); expected.addFirst(v); break;
+        case 1: list.addLast(v); expected.addLast(v); break;
+        case 2: assertEquals(expected.pollFirst(), list.removeFirst()); break;
+        default: assertEquals(expected.pollLast(), list.removeLast());
+      }
+      assertEquals(expected.size(), list.size());
+      assertEquals(expected.peekFirst(), list.first());
+      assertEquals(expected.peekLast(), list.last());
+    }
+    assertEquals(new ArrayList<>(expected), contents(list));
+  }
+
+  @Test
+  void concatenate() {
+    DoublyLinkedList<Integer> a = new DoublyLinkedList<>();
+    DoublyLinkedList<Integer> b = new DoublyLinkedList<>();
+    a.addLast(1);
+    b.addLast(2);
+    b.addLast(3);
+    assertEquals(List.of(1, 2, 3), contents(DoublyLinkedList.concatenateLists(a, b)));
+    a.spliceAppend(b);
+    assertEquals(List.of(1, 2, 3), contents(a));
+    assertTrue(b.isEmpty());
+    assertEquals(3, a.last());
+  }
+
+  /** Returns the elements of the list, walking backwards from the last. */
+  static <E> List<E> contentsBackwards(DoublyLinkedList<E> list) {
+    List<E> result = new ArrayList<>();
+    for (Position<E> p = list.lastPosition(); p != null; p = list.before(p))
+      result.add(0, p.getElement());
+    return result;
+  }
+
+  @Test
+  void sortIsStableAndMatchesListSort() {
+    Random random = new Random(5);
+    Comparator<int[]> byKey = Comparator.comparingInt(x -> x[0]);
+    for (int n : new int[] {0, 1, 2, 3, 7, 8, 9, 100, 1025, 50000}) {
+      List<int[]> expected = new ArrayList<>();
+      DoublyLinkedList<int[]> list = new DoublyLinkedList<>();
+      for (int i = 0; i < n; i++) {
+        int[] e = {random.nextInt(Math.max(1, n / 4)), i};
+        expected.add(e);
+        list.addLast(e);
+      }
+      list.sort(byKey);
+      expected.sort(byKey);
+      List<int[]> forwards = contents(list);
+      List<int[]> backwards = contentsBackwards(list);
+      for (int i = 0; i < n; i++) {
+        assertSame(expected.get(i), forwards.get(i));
+        assertSame(expected.get(i), backwards.get(i));
+      }
+    }
+  }
+
+  @Test
+  void failedSortLeavesListUnchanged() {
+    DoublyLinkedList<String> list = new DoublyLinkedList<>();
+    for (String s : new String[] {"d", "c", null, "b", "a"})
+      list.addLast(s);
+    assertThrows(NullPointerException.class, () -> list.sort(null));
+    List<String> expected = Arrays.asList("d", "c", null, "b", "a");
+    assertEquals(5, list.size());
+    assertEquals(expected, contents(list));
+    assertEquals(expected, contentsBackwards(list));
+    assertEquals("a", list.last());
+    assertEquals("(d, c, null, b, a)", list.toString());
+  }
+
+  @Test
+  void sortFailingAtEveryComparisonLeavesListUnchanged() {
+    Random random = new Random(8);
+    for (int n : new int[] {2, 3, 10, 37, 200}) {
+      DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+      for (int i = 0; i < n; i++)
+        list.addLast(random.nextInt(n));
+      List<Integer> original = contents(list);
+      for (int failAt = 0; failAt < comparisons(original); failAt += 1 + failAt / 4) {
+        int limit = failAt;
+        assertThrows(IllegalStateException.class, () -> list.sort(failingAfter(limit)));
+        assertEquals(original, contents(list));
+        assertEquals(original, contentsBackwards(list));
+      }
+    }
+  }
+
+  /** Returns the number of comparisons a successful sort of the elements makes. */
+  static int comparisons(List<Integer> elements) {
+    DoublyLinkedList<Integer> copy = new DoublyLinkedList<>();
+    elements.forEach(copy::addLast);
+    int[] calls = {0};
+    copy.sort((a, b) -> {
+      calls[0]++;
+      return Integer.compare(a, b);
+    });
+    return calls[0];
+  }
+
+  /** Returns a natural-order comparator that throws on its call after the given number. */
+  static Comparator<Integer> failingAfter(int comparisons) {
+    int[] calls = {0};
+    return (a, b) -> {
+      if (calls[0]++ == comparisons) throw new IllegalStateException("comparator failed");
+      return Integer.compare(a, b);
+    };
+  }
+
+  @Test
+  void parallelSortIsStableAndMatchesListSort() throws InterruptedException, ExecutionException {
+    Random random = new Random(9);
+    Comparator<int[]> byKey = Comparator.comparingInt(x -> x[0]);
+    ForkJoinPool pool = new ForkJoinPool(3);
+    for (int n : new int[] {0, 1, 2, 5, 17, 100, 1000, 100000}) {
+      for (int threshold : new int[] {1, 2, 3, 7, 64, 1 << 14}) {
+        List<int[]> expected = new ArrayList<>();
+        DoublyLinkedList<int[]> list = new DoublyLinkedList<>();
+        for (int i = 0; i < n; i++) {
+          int[] e = {random.nextInt(Math.max(1, n / 4)), i};
+          expected.add(e);
+          list.addLast(e);
+        }
+        if (threshold == 7)
+          pool.submit(() -> list.parallelSort(byKey, threshold)).get();
+        else
+          list.parallelSort(byKey, threshold);
+        expected.sort(byKey);
+        List<int[]> forwards = contents(list);
+        List<int[]> backwards = contentsBackwards(list);
+        assertEquals(n, list.size());
+        for (int i = 0; i < n; i++) {
+          assertSame(expected.get(i), forwards.get(i));
+          assertSame(expected.get(i), backwards.get(i));
+        }
+      }
+    }
+    pool.shutdown();
+    assertThrows(IllegalArgumentException.class, () -> new DoublyLinkedList<Integer>().parallelSort(null, 0));
+  }
+
+  @Test
+  void failedParallelSortLeavesListUnchanged() throws InterruptedException {
+    Random random = new Random(10);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    for (int n : new int[] {10, 1000, 20000}) {
+      DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+      for (int i = 0; i < n; i++)
+        list.addLast(random.nextInt(n));
+      List<Integer> original = contents(list);
+      for (int threshold : new int[] {1, 3, 64}) {
+        for (int failAt : new int[] {0, n / 2}) {
+          AtomicInteger calls = new AtomicInteger();
+          Comparator<Integer> failing = (a, b) -> {
+            if (calls.getAndIncrement() == failAt) throw new IllegalStateException("comparator failed");
+            return Integer.compare(a, b);
+          };
+          ExecutionException e = assertThrows(ExecutionException.class,
+              () -> pool.submit(() -> list.parallelSort(failing, threshold)).get());
+          assertTrue(e.getCause() instanceof IllegalStateException);
+          assertEquals(n, list.size());
+          assertEquals(original, contents(list));
+          assertEquals(original, contentsBackwards(list));
+        }
+      }
+    }
+    pool.shutdown();
+    DoublyLinkedList<String> nulls = new DoublyLinkedList<>();
+    for (int i = 0; i < 100; i++)
+      nulls.addLast(i == 50 ? null : "e" + i);
+    assertThrows(NullPointerException.class, () -> nulls.parallelSort(null, 4));
+    assertEquals(100, nulls.size());
+    assertEquals("e99", nulls.last());
+  }
+
+  @Test
+  void positionsMatchListModel() {
+    Random random = new Random(2);
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    List<Integer> model = new ArrayList<>();
+    List<Position<Integer>> positions = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      int op = random.nextInt(6);
+      if (positions.isEmpty() || op == 0) {
+        if (random.nextBoolean()) {
+          positions.add(0, list.addFirst(i));
+          model.add(0, i);
+        } else {
+          positions.add(list.addLast(i));
+          model.add(i);
+        }
+        continue;
+      }
+      int k = random.nextInt(positions.size());
+      Position<Integer> p = positions.get(k);
+      switch (op) {
+        case 1:
+          positions.add(k, list.addBefore(p, i));
+          model.add(k, i);
+          break;
+        case 2:
+          positions.add(k + 1, list.addAfter(p, i));
+          model.add(k + 1, i);
+          break;
+        case 3:
+          assertEquals(model.remove(k), list.remove(p));
+          positions.remove(k);
+          assertThrows(IllegalArgumentException.class, () -> list.remove(p));
+          assertThrows(IllegalArgumentException.class, () -> list.after(p));
+          break;
+        case 4:
+          assertEquals(model.set(k, i), list.set(p, i));
+          break;
+        default:
+          assertEquals(k == 0 ? null : positions.get(k - 1), list.before(p));
+          assertEquals(k == positions.size() - 1 ? null : positions.get(k + 1), list.after(p));
+      }
+      assertEquals(model.size(), list.size());
+    }
+    assertEquals(model, contents(list));
+    assertEquals(positions.get(0), list.firstPosition());
+    assertEquals(positions.get(positions.size() - 1), list.lastPosition());
+  }
+
+  @Test
+  void foreignPositionsAreRejected() {
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    list.addLast(1);
+    Position<Integer> foreign = new DoublyLinkedList<Integer>().addLast(7);
+    assertThrows(IllegalArgumentException.class, () -> list.remove(foreign));
+    assertThrows(IllegalArgumentException.class, () -> list.addAfter(null, 1));
+    assertThrows(IllegalArgumentException.class, () -> list.set(() -> 3, 1));
+  }
+
+  @Test
+  void spliceTransfersPositions() {
+    DoublyLinkedList<Integer> x = new DoublyLinkedList<>();
+    DoublyLinkedList<Integer> y = new DoublyLinkedList<>();
+    DoublyLinkedList<Integer> z = new DoublyLinkedList<>();
+    Position<Integer> px = x.addLast(1);
+    y.addLast(2);
+    Position<Integer> pz = z.addLast(3);
+    y.spliceAppend(x);
+    z.spliceAppend(y);
+    assertThrows(IllegalArgumentException.class, () -> x.remove(px));
+    assertThrows(IllegalArgumentException.class, () -> y.remove(px));
+    assertEquals(1, z.remove(px));
+    assertEquals(2, z.size());
+    Position<Integer> again = x.addLast(9);
+    assertThrows(IllegalArgumentException.class, () -> z.remove(again));
+    assertEquals(9, x.remove(again));
+    z.sort(null);
+    assertEquals(2, z.before(pz).getElement());
+  }
+
+  @Test
+  void recycledNodesRejectStalePositions() {
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    list.enableNodeRecycling(8);
+    Position<Integer> stale = list.addLast(1);
+    list.addLast(2);
+    assertEquals(1, list.removeFirst());
+    assertNull(stale.getElement());
+    Position<Integer> fresh = list.addLast(3);     // reuses the node of stale
+    assertNotEquals(stale, fresh);
+    assertNull(stale.getElement());
+    assertEquals(3, fresh.getElement());
+    assertThrows(IllegalArgumentException.class, () -> list.set(stale, 99));
+    assertThrows(IllegalArgumentException.class, () -> list.remove(stale));
+    assertThrows(IllegalArgumentException.class, () -> list.addAfter(stale, 99));
+    assertThrows(IllegalArgumentException.class, () -> list.before(stale));
+    assertEquals(List.of(2, 3), contents(list));
+    assertEquals(fresh, list.lastPosition());
+    assertEquals(3, list.remove(fresh));
+  }
+
+  @Test
+  void recyclingPositionsMatchListModel() {
+    Random random = new Random(5);
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    list.enableNodeRecycling(16);
+    Deque<Integer> model = new ArrayDeque<>();
+    Deque<Position<Integer>> live = new ArrayDeque<>();
+    List<Position<Integer>> removed = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      if (live.isEmpty() || random.nextInt(3) > 0) {
+        live.addLast(list.addLast(i));
+        model.addLast(i);
+      } else {
+        Position<Integer> p = live.removeFirst();
+        assertEquals(model.removeFirst(), list.removeFirst());
+        removed.add(p);
+      }
+      if (!removed.isEmpty()) {
+        Position<Integer> p = removed.get(random.nextInt(removed.size()));
+        assertNull(p.getElement());
+        assertThrows(IllegalArgumentException.class, () -> list.set(p, -1));
+      }
+    }
+    assertEquals(new ArrayList<>(model), contents(list));
+    for (Position<Integer> p : live)
+      assertEquals(model.removeFirst(), list.remove(p));
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  void recyclingReusesNodesAddedWithoutPositions() {
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    list.enableNodeRecycling(4);
+    DoublyLinkedList.Node<Integer> node = list.addLastNode(1);
+    list.addLastNode(2);
+    list.removeFirst();
+    assertSame(node, list.addLastNode(3));   // the removed node came back
+    assertEquals(List.of(2, 3), contents(list));
+    list.disableNodeRecycling();
+    list.removeFirst();
+    assertNotSame(node, list.addLastNode(4));
+  }
+
+  @Test
+  void writeToAndTruncatedToString() throws IOException {
+    DoublyLinkedList<String> list = new DoublyLinkedList<>();
+    assertEquals("()", list.toString(0));
+    StringBuilder sb = new StringBuilder();
+    list.writeTo(sb);
+    assertEquals("()", sb.toString());
+    for (String s : new String[] {"a", null, "c"})
+      list.addLast(s);
+    assertEquals("(a, null, c)", list.toString());
+    assertEquals("(...)", list.toString(0));
+    assertEquals("(a, ...)", list.toString(1));
+    assertEquals("(a, null, c)", list.toString(3));
+    assertEquals("(a, null, c)", list.toString(4));
+    sb.setLength(0);
+    list.writeTo(sb, 2);
+    assertEquals("(a, null, ...)", sb.toString());
+    assertThrows(IllegalArgumentException.class, () -> list.toString(-1));
+  }
+
+  @Test
+  void writeToPropagatesIOException() {
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    for (int i = 0; i < 5; i++)
+      list.addLast(i);
+    for (int appends = 0; appends < 11; appends++) {
+      FailingAppendable out = new FailingAppendable(appends);
+      assertThrows(IOException.class, () -> list.writeTo(out));
+      assertTrue("(0, 1, 2, 3, 4)".startsWith(out.toString()));
+    }
+    FailingAppendable out = new FailingAppendable(3);
+    assertThrows(IOException.class, () -> list.writeTo(out, 1));
+    assertEquals("(0, ", out.toString());
+    assertEquals(5, list.size());
+  }
+}
@@ -0,0 +1,35 @@
+package linkedlists;
+
+import java.io.IOException;
+
+/** An Appendable that records what it receives and fails once a limit of appends is reached. */
+class FailingAppendable implements Appendable {
+  private final StringBuilder sb = new StringBuilder();
+  private int remaining;
+
+  FailingAppendable(int appends) { remaining = appends; }
+
+  public Appendable append(CharSequence s) throws IOException {
+    check();
+    sb.append(s);
+    return this;
+  }
+
+  public Appendable append(CharSequence s, int start, int end) throws IOException {
+    check();
+    sb.append(s, start, end);
+    return this;
+  }
+
+  public Appendable append(char c) throws IOException {
+    check();
+    sb.append(c);
+    return this;
+  }
+
+  private void check() throws IOException {
+    if (remaining-- == 0) throw new IOException("Destination failed");
+  }
+
+  public String toString() { return sb.toString(); }
+}
@@ -0,0 +1,95 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IndexedSkipListTest {
+
+  @Test
+  void matchesArrayListUnderRandomOperations() {
+    Random random = new Random(7);
+    for (int round = 0; round < 50; round++) {
+      IndexedSkipList<Integer> list = new IndexedSkipList<>();
+      List<Integer> expected = new ArrayList<>();
+      for (int op = 0; op < 4000; op++) {
+        int v = random.nextInt();
+        switch (random.nextInt(7)) {
+          case 0: list.addFirst(v); expected.add(0, v); break;
+          case 1: list.addLast(v); expected.add(v); break;
+          case 2:
+            assertEquals(expected.isEmpty() ? null : expected.remove(0), list.removeFirst());
+            break;
+          case 3: {
+            int i = random.nextInt(expected.size() + 1);
+            list.insertAt(i, v);
+            expected.add(i, v);
+            break;
+          }
+          case 4:
+            if (!expected.isEmpty()) {
+              int i = random.nextInt(expected.size());
+              assertEquals(expected.remove(i), list.removeAt(i));
+            }
+            break;
+          case 5:
+            if (!expected.isEmpty()) {
+              int i = random.nextInt(expected.size());
+              assertEquals(expected.set(i, v), list.set(i, v));
+            }
+            break;
+          default:
+            if (!expected.isEmpty()) {
+              int i = random.nextInt(expected.size());
+              assertEquals(expected.get(i), list.get(i));
+            }
+        }
+        assertEquals(expected.size(), list.size());
+      }
+      for (int i = 0; i < expected.size(); i++)
+        assertEquals(expected.get(i), list.get(i));
+      List<Integer> visited = new ArrayList<>();
+      list.forEach(visited::add);
+      assertEquals(expected, visited);
+      if (!expected.isEmpty()) {
+        assertEquals(expected.get(0), list.first());
+        assertEquals(expected.get(expected.size() - 1), list.last());
+      }
+    }
+  }
+
+  @Test
+  void drainsAndRefills() {
+    IndexedSkipList<Integer> list = new IndexedSkipList<>();
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < 10000; i++)
+        list.addLast(i);
+      for (int i = 0; i < 5000; i++)
+        assertEquals(i, list.removeFirst());
+      for (int i = 5000; i < 10000; i++)
+        assertEquals(i, list.removeAt(0));
+      assertEquals(0, list.size());
+      assertNull(list.first());
+      assertNull(list.removeFirst());
+      assertEquals("()", list.toString());
+    }
+  }
+
+  @Test
+  void indicesAreChecked() {
+    IndexedSkipList<String> list = new IndexedSkipList<>();
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.insertAt(1, "x"));
+    list.insertAt(0, "a");
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.set(1, "y"));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(1));
+    assertEquals("(a)", list.toString());
+  }
+}
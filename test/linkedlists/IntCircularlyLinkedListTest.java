@@ -0,0 +1,70 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntCircularlyLinkedListTest {
+
+  @Test
+  void matchesCircularlyLinkedList() {
+    Random random = new Random(5);
+    for (int round = 0; round < 500; round++) {
+      IntCircularlyLinkedList ints = new IntCircularlyLinkedList(random.nextInt(4));
+      CircularlyLinkedList<Integer> boxed = new CircularlyLinkedList<>();
+      for (int op = 0; op < 100; op++) {
+        int v = random.nextInt();
+        switch (random.nextInt(4)) {
+          case 0: ints.addFirst(v); boxed.addFirst(v); break;
+          case 1: ints.addLast(v); boxed.addLast(v); break;
+          case 2:
+            if (!boxed.isEmpty()) assertEquals(boxed.removeFirst(), ints.removeFirst());
+            break;
+          default: ints.rotate(); boxed.rotate();
+        }
+        assertEquals(boxed.size(), ints.size());
+        if (!boxed.isEmpty()) {
+          assertEquals(boxed.first(), ints.first());
+          assertEquals(boxed.last(), ints.last());
+        }
+      }
+      assertEquals(boxed.toString(), ints.toString());
+      SinglyLinkedList<Integer> singly = new SinglyLinkedList<>();
+      boxed.forEach(singly::addLast);
+      assertEquals(singly.hashCode(), ints.hashCode());
+    }
+  }
+
+  @Test
+  void equalityFollowsTheHead() {
+    IntCircularlyLinkedList a = new IntCircularlyLinkedList();
+    IntCircularlyLinkedList b = new IntCircularlyLinkedList();
+    for (int i = 0; i < 3; i++) {
+      a.addLast(i);
+      b.addLast(i);
+    }
+    assertEquals(a, b);
+    b.rotate();
+    assertEquals("(1, 2, 0)", b.toString());
+    assertNotEquals(a, b);
+    b.rotate();
+    b.rotate();
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+  }
+
+  @Test
+  void emptyList() {
+    IntCircularlyLinkedList ints = new IntCircularlyLinkedList(0);
+    assertThrows(NoSuchElementException.class, ints::first);
+    assertThrows(NoSuchElementException.class, ints::last);
+    assertThrows(NoSuchElementException.class, ints::removeFirst);
+    ints.rotate();
+    assertEquals("()", ints.toString());
+  }
+}
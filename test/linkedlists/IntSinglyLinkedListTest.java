@@ -0,0 +1,57 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntSinglyLinkedListTest {
+
+  @Test
+  void matchesSinglyLinkedList() throws CloneNotSupportedException {
+    Random random = new Random(4);
+    for (int round = 0; round < 500; round++) {
+      IntSinglyLinkedList ints = new IntSinglyLinkedList(random.nextInt(4));
+      SinglyLinkedList<Integer> boxed = new SinglyLinkedList<>();
+      for (int op = 0; op < 100; op++) {
+        int v = random.nextInt();
+        switch (random.nextInt(4)) {
+          case 0: ints.addFirst(v); boxed.addFirst(v); break;
+          case 1: ints.addLast(v); boxed.addLast(v); break;
+          case 2:
+            if (!boxed.isEmpty()) assertEquals(boxed.removeFirst(), ints.removeFirst());
+            break;
+          default:
+            IntSinglyLinkedList copy = ints.clone();
+            assertEquals(ints, copy);
+            assertEquals(ints.hashCode(), copy.hashCode());
+            copy.addLast(v);
+            assertNotEquals(ints, copy);
+        }
+        assertEquals(boxed.size(), ints.size());
+        if (!boxed.isEmpty()) {
+          assertEquals(boxed.first(), ints.first());
+          assertEquals(boxed.last(), ints.last());
+        }
+      }
+      assertEquals(boxed.toString(), ints.toString());
+      assertEquals(boxed.hashCode(), ints.hashCode());
+    }
+  }
+
+  @Test
+  void emptyList() {
+    IntSinglyLinkedList ints = new IntSinglyLinkedList(0);
+    assertThrows(NoSuchElementException.class, ints::first);
+    assertThrows(NoSuchElementException.class, ints::last);
+    assertThrows(NoSuchElementException.class, ints::removeFirst);
+    assertEquals("()", ints.toString());
+    ints.addLast(1);
+    assertEquals(1, ints.removeFirst());
+    assertThrows(NoSuchElementException.class, ints::removeFirst);
+  }
+}
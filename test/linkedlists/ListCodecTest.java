@@ -0,0 +1,150 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ListCodecTest {
+
+  /** Codec for String elements that may be null, as a presence flag and the string */
+  private static final ListCodec.ElementCodec<String> NULLABLE = new ListCodec.ElementCodec<>() {
+    public void write(DataOutput out, String e) throws IOException {
+      out.writeBoolean(e != null);
+      if (e != null) out.writeUTF(e);
+    }
+    public String read(DataInput in) throws IOException {
+      return in.readBoolean() ? in.readUTF() : null;
+    }
+  };
+
+  private static final List<List<String>> CONTENTS = List.of(
+      List.of(), List.of("a"), Arrays.asList("x", null, "", "y\u00e9", null));
+
+  @Test
+  void singlyRoundTrip() throws IOException {
+    ListCodec<String> codec = new ListCodec<>(NULLABLE);
+    for (List<String> contents : CONTENTS) {
+      SinglyLinkedList<String> list = new SinglyLinkedList<>();
+      contents.forEach(list::addLast);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      codec.write(list, new DataOutputStream(bytes));
+      assertEquals(contents, elements(codec.readSingly(in(bytes.toByteArray()))));
+      assertEquals(contents, elements(codec.readDoubly(in(bytes.toByteArray()))));
+      assertEquals(contents, elements(codec.readCircularly(in(bytes.toByteArray()))));
+    }
+  }
+
+  @Test
+  void doublyRoundTrip() throws IOException {
+    ListCodec<String> codec = new ListCodec<>(NULLABLE);
+    for (List<String> contents : CONTENTS) {
+      DoublyLinkedList<String> list = new DoublyLinkedList<>();
+      contents.forEach(list::addLast);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      codec.write(list, new DataOutputStream(bytes));
+      DoublyLinkedList<String> copy = codec.readDoubly(in(bytes.toByteArray()));
+      assertEquals(contents, elements(copy));
+      assertEquals(contents.size(), copy.size());
+      if (!contents.isEmpty()) assertEquals(contents.get(contents.size() - 1), copy.last());
+    }
+  }
+
+  @Test
+  void circularRoundTripStartsAtCurrentHead() throws IOException {
+    ListCodec<Integer> codec = new ListCodec<>(ListCodec.INTEGERS);
+    CircularlyLinkedList<Integer> list = new CircularlyLinkedList<>();
+    ByteArrayOutputStream empty = new ByteArrayOutputStream();
+    codec.write(list, new DataOutputStream(empty));
+    assertEquals(List.of(), elements(codec.readCircularly(in(empty.toByteArray()))));
+    for (int i = 0; i < 1000; i++)
+      list.addLast(i);
+    list.rotate();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    codec.write(list, new DataOutputStream(bytes));
+    CircularlyLinkedList<Integer> copy = codec.readCircularly(in(bytes.toByteArray()));
+    assertEquals(elements(list), elements(copy));
+    assertEquals(1, copy.first());
+    assertEquals(0, copy.last());
+    copy.rotate();
+    assertEquals(2, copy.first());
+  }
+
+  @Test
+  void badMagicIsRejected() throws IOException {
+    byte[] bytes = encoded();
+    bytes[0] ^= 1;
+    assertThrows(StreamCorruptedException.class, () -> new ListCodec<>(ListCodec.LONGS).readSingly(in(bytes)));
+  }
+
+  @Test
+  void unknownVersionIsRejected() throws IOException {
+    byte[] bytes = encoded();
+    bytes[4] = (byte) (ListCodec.VERSION + 1);
+    assertThrows(StreamCorruptedException.class, () -> new ListCodec<>(ListCodec.LONGS).readDoubly(in(bytes)));
+  }
+
+  @Test
+  void truncatedStreamIsRejected() throws IOException {
+    byte[] bytes = encoded();
+    ListCodec<Long> codec = new ListCodec<>(ListCodec.LONGS);
+    for (int length : new int[] {0, 3, 6, bytes.length - 1}) {
+      byte[] cut = Arrays.copyOf(bytes, length);
+      assertThrows(EOFException.class, () -> codec.readSingly(in(cut)));
+      assertThrows(EOFException.class, () -> codec.readDoubly(in(cut)));
+      assertThrows(EOFException.class, () -> codec.readCircularly(in(cut)));
+    }
+  }
+
+  @Test
+  void negativeCountIsRejected() throws IOException {
+    byte[] bytes = encoded();
+    bytes[5] = (byte) 0x80;                     // high byte of the count
+    assertThrows(StreamCorruptedException.class, () -> new ListCodec<>(ListCodec.LONGS).readSingly(in(bytes)));
+  }
+
+  /** Returns the encoding of a short list of longs. */
+  private static byte[] encoded() throws IOException {
+    SinglyLinkedList<Long> list = new SinglyLinkedList<>();
+    for (long i = 0; i < 5; i++)
+      list.addLast(i << 40);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new ListCodec<>(ListCodec.LONGS).write(list, new DataOutputStream(bytes));
+    return bytes.toByteArray();
+  }
+
+  private static DataInput in(byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+
+  private static <E> List<E> elements(SinglyLinkedList<E> list) {
+    List<E> answer = new ArrayList<>();
+    list.forEach(answer::add);
+    return answer;
+  }
+
+  private static <E> List<E> elements(DoublyLinkedList<E> list) {
+    List<E> answer = new ArrayList<>();
+    list.forEach(answer::add);
+    return answer;
+  }
+
+  private static <E> List<E> elements(CircularlyLinkedList<E> list) {
+    List<E> answer = new ArrayList<>();
+    list.forEach(answer::add);
+    return answer;
+  }
+}
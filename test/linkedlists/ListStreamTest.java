@@ -0,0 +1,114 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/** Iteration, spliterators and streams of the three lists. */
+class ListStreamTest {
+
+  private static final int[] SIZES = {0, 1, 5, 3000, 100000};
+
+  @Test
+  void singlyLinkedList() {
+    for (int n : SIZES) {
+      SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+      check(list, list::addLast, list::stream, list::parallelStream, n);
+    }
+  }
+
+  @Test
+  void doublyLinkedList() {
+    for (int n : SIZES) {
+      DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+      check(list, list::addLast, list::stream, list::parallelStream, n);
+    }
+  }
+
+  @Test
+  void circularlyLinkedList() {
+    for (int n : SIZES) {
+      CircularlyLinkedList<Integer> list = new CircularlyLinkedList<>();
+      check(list, list::addLast, list::stream, list::parallelStream, n);
+    }
+  }
+
+  @Test
+  void circularTraversalStartsAtCurrentHead() {
+    CircularlyLinkedList<Integer> list = new CircularlyLinkedList<>();
+    for (int i = 0; i < 5; i++)
+      list.addLast(i);
+    Spliterator<Integer> spliterator = list.spliterator();
+    list.rotate();                               // before binding, so it is seen
+    assertEquals(List.of(1, 2, 3, 4, 0), list.stream().collect(Collectors.toList()));
+    List<Integer> seen = new ArrayList<>();
+    spliterator.forEachRemaining(seen::add);
+    assertEquals(List.of(1, 2, 3, 4, 0), seen);
+  }
+
+  /**
+   * Fills the list with 0..n-1 and checks iteration, the spliterator's
+   * characteristics, size estimates, splitting and late binding, and that
+   * both streams agree with iteration.
+   */
+  private static void check(Iterable<Integer> list, Consumer<Integer> addLast,
+                            Supplier<Stream<Integer>> stream, Supplier<Stream<Integer>> parallel, int n) {
+    Spliterator<Integer> early = list.spliterator();   // created before the list is filled
+    for (int i = 0; i < n; i++)
+      addLast.accept(i);
+    List<Integer> iterated = new ArrayList<>();
+    for (Integer e : list)
+      iterated.add(e);
+    assertEquals(n, iterated.size());
+    for (int i = 0; i < n; i++)
+      assertEquals(i, iterated.get(i));
+
+    assertEquals(n, early.getExactSizeIfKnown());   // late binding
+    List<Integer> seen = new ArrayList<>();
+    early.forEachRemaining(seen::add);
+    assertEquals(iterated, seen);
+
+    Spliterator<Integer> spliterator = list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    assertEquals(n, spliterator.estimateSize());  // exact before traversal
+    Spliterator<Integer> prefix = spliterator.trySplit();
+    seen.clear();
+    if (prefix != null) {
+      assertTrue(prefix.hasCharacteristics(Spliterator.SIZED));
+      long prefixSize = prefix.estimateSize();
+      assertEquals(n, prefixSize + spliterator.estimateSize());
+      prefix.forEachRemaining(seen::add);
+      assertEquals(prefixSize, seen.size());
+    }
+    if (spliterator.tryAdvance(seen::add))
+      assertEquals(iterated.subList(0, seen.size()), seen);
+    spliterator.forEachRemaining(seen::add);
+    assertEquals(iterated, seen);
+    assertFalse(spliterator.tryAdvance(e -> { }));
+
+    assertEquals(iterated, stream.get().collect(Collectors.toList()));
+    assertEquals(iterated, parallel.get().collect(Collectors.toList()));
+    assertEquals((long) n * (n - 1) / 2, parallel.get().mapToLong(Integer::longValue).sum());
+
+    Iterator<Integer> it = list.iterator();
+    for (int i = 0; i < n; i++)
+      it.next();
+    assertFalse(it.hasNext());
+    assertThrows(NoSuchElementException.class, it::next);
+  }
+}
@@ -0,0 +1,63 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongDoublyLinkedListTest {
+
+  @Test
+  void matchesDoublyLinkedList() {
+    Random random = new Random(6);
+    for (int round = 0; round < 500; round++) {
+      LongDoublyLinkedList longs = new LongDoublyLinkedList(random.nextInt(4));
+      LongDoublyLinkedList twin = new LongDoublyLinkedList();
+      DoublyLinkedList<Long> boxed = new DoublyLinkedList<>();
+      for (int op = 0; op < 100; op++) {
+        long v = random.nextLong();
+        switch (random.nextInt(4)) {
+          case 0: longs.addFirst(v); twin.addFirst(v); boxed.addFirst(v); break;
+          case 1: longs.addLast(v); twin.addLast(v); boxed.addLast(v); break;
+          case 2:
+            if (!boxed.isEmpty()) {
+              assertEquals(boxed.removeFirst(), longs.removeFirst());
+              twin.removeFirst();
+            }
+            break;
+          default:
+            if (!boxed.isEmpty()) {
+              assertEquals(boxed.removeLast(), longs.removeLast());
+              twin.removeLast();
+            }
+        }
+        assertEquals(boxed.size(), longs.size());
+        if (!boxed.isEmpty()) {
+          assertEquals(boxed.first(), longs.first());
+          assertEquals(boxed.last(), longs.last());
+        }
+      }
+      assertEquals(boxed.toString(), longs.toString());
+      assertEquals(twin, longs);
+      SinglyLinkedList<Long> singly = new SinglyLinkedList<>();
+      boxed.forEach(singly::addLast);
+      assertEquals(singly.hashCode(), longs.hashCode());
+      twin.addLast(0);
+      assertNotEquals(twin, longs);
+    }
+  }
+
+  @Test
+  void emptyList() {
+    LongDoublyLinkedList longs = new LongDoublyLinkedList(0);
+    assertThrows(NoSuchElementException.class, longs::first);
+    assertThrows(NoSuchElementException.class, longs::last);
+    assertThrows(NoSuchElementException.class, longs::removeFirst);
+    assertThrows(NoSuchElementException.class, longs::removeLast);
+    assertEquals("()", longs.toString());
+  }
+}
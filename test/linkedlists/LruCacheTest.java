@@ -0,0 +1,62 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+  @Test
+  void matchesAccessOrderedLinkedHashMap() {
+    Random random = new Random(1);
+    for (int capacity : new int[] {0, 1, 2, 5, 50}) {
+      LruCache<Integer, Integer> cache = new LruCache<>(capacity);
+      Map<Integer, Integer> expected = new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+          return size() > capacity;
+        }
+      };
+      for (int i = 0; i < 20000; i++) {
+        int k = random.nextInt(capacity * 2 + 3);
+        switch (random.nextInt(3)) {
+          case 0: assertEquals(expected.get(k), cache.get(k)); break;
+          case 1: assertEquals(expected.put(k, i), cache.put(k, i)); break;
+          default: assertEquals(expected.remove(k), cache.remove(k));
+        }
+        assertEquals(expected.size(), cache.size());
+        assertEquals(expected.size(), cache.weight());
+      }
+      StringBuilder sb = new StringBuilder("(");
+      for (Map.Entry<Integer, Integer> e : expected.entrySet()) {
+        if (sb.length() > 1) sb.append(", ");
+        sb.append(e.getKey()).append('=').append(e.getValue());
+      }
+      assertEquals(sb.append(')').toString(), cache.toString());
+    }
+  }
+
+  @Test
+  void evictsByWeight() {
+    LruCache<String, String> cache = new LruCache<>(10, (k, v) -> v.length());
+    StringBuilder evicted = new StringBuilder();
+    cache.setEvictionListener((k, v) -> evicted.append(k));
+    cache.put("a", "12345");
+    cache.put("b", "12345");
+    cache.put("c", "1");
+    assertFalse(cache.containsKey("a"));
+    assertTrue(cache.containsKey("b"));
+    assertEquals(6, cache.weight());
+    cache.put("d", "12345678901");               // heavier than the whole cache
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.weight());
+    assertEquals("abcd", evicted.toString());
+  }
+}
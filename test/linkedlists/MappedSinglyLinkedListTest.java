@@ -0,0 +1,91 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedSinglyLinkedListTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void matchesDequeAcrossReopens() throws IOException {
+    Path file = dir.resolve("list.bin");
+    Random random = new Random(6);
+    Deque<Long> expected = new ArrayDeque<>();
+    MappedSinglyLinkedList<Long> list = new MappedSinglyLinkedList<>(file, MappedSinglyLinkedList.LONGS, 200);
+    for (int round = 0; round < 50; round++) {
+      for (int op = 0; op < 200; op++) {
+        if (random.nextInt(3) > 0) {
+          long v = random.nextLong();
+          list.addLast(v);
+          expected.addLast(v);
+        } else {
+          assertEquals(expected.pollFirst(), list.removeFirst());
+        }
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected.peekFirst(), list.first());
+        assertEquals(expected.peekLast(), list.last());
+      }
+      list.force();
+      list.close();
+      list = new MappedSinglyLinkedList<>(file, MappedSinglyLinkedList.LONGS);
+      assertEquals(expected.toString().replace('[', '(').replace(']', ')'), list.toString());
+    }
+    list.close();
+  }
+
+  @Test
+  void closedListRejectsUse() throws IOException {
+    MappedSinglyLinkedList<Integer> list =
+        new MappedSinglyLinkedList<>(dir.resolve("closed.bin"), MappedSinglyLinkedList.INTEGERS, 4096);
+    list.addLast(1);
+    list.close();
+    list.close();                              // closing twice has no effect
+    assertThrows(IllegalStateException.class, list::first);
+    assertThrows(IllegalStateException.class, list::last);
+    assertThrows(IllegalStateException.class, list::size);
+    assertThrows(IllegalStateException.class, list::removeFirst);
+    assertThrows(IllegalStateException.class, () -> list.addLast(2));
+    assertThrows(IllegalStateException.class, list::force);
+  }
+
+  @Test
+  void corruptHeaderIsRejected() throws IOException {
+    assertCorrupt(12, ByteBuffer.allocate(4).putInt(0, 0));                  // segment size
+    assertCorrupt(12, ByteBuffer.allocate(4).putInt(0, -4096));
+    assertCorrupt(48, ByteBuffer.allocate(8).putLong(0, 1L << 40));          // end
+    assertCorrupt(16, ByteBuffer.allocate(8).putLong(0, 1L << 40));          // head
+    assertCorrupt(24, ByteBuffer.allocate(8).putLong(0, 3));                 // tail
+  }
+
+  /** Writes a valid list, overwrites bytes of its header, and expects reopening to fail. */
+  private void assertCorrupt(int at, ByteBuffer bytes) throws IOException {
+    Path file = Files.createTempFile(dir, "corrupt", ".bin");
+    Files.delete(file);
+    try (MappedSinglyLinkedList<Integer> list =
+             new MappedSinglyLinkedList<>(file, MappedSinglyLinkedList.INTEGERS, 4096)) {
+      list.addLast(1);
+      list.addLast(2);
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.write(bytes, at);
+    }
+    assertThrows(StreamCorruptedException.class,
+                 () -> new MappedSinglyLinkedList<>(file, MappedSinglyLinkedList.INTEGERS));
+  }
+}
@@ -0,0 +1,56 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapDoublyLinkedListTest {
+
+  @Test
+  void matchesLongDoublyLinkedList() {
+    Random random = new Random(7);
+    OffHeapDoublyLinkedList offHeap = new OffHeapDoublyLinkedList();
+    LongDoublyLinkedList onHeap = new LongDoublyLinkedList();
+    for (int op = 0; op < 300000; op++) {
+      long v = random.nextLong();
+      switch (random.nextInt(4)) {
+        case 0: offHeap.addFirst(v); onHeap.addFirst(v); break;
+        case 1: offHeap.addLast(v); onHeap.addLast(v); break;
+        case 2: if (!onHeap.isEmpty()) assertEquals(onHeap.removeFirst(), offHeap.removeFirst()); break;
+        default: if (!onHeap.isEmpty()) assertEquals(onHeap.removeLast(), offHeap.removeLast());
+      }
+      assertEquals(onHeap.size(), offHeap.size());
+    }
+    assertEquals(onHeap.toString(), offHeap.toString());
+    offHeap.close();
+  }
+
+  @Test
+  void emptyListThrows() {
+    OffHeapDoublyLinkedList list = new OffHeapDoublyLinkedList();
+    assertThrows(NoSuchElementException.class, list::first);
+    assertThrows(NoSuchElementException.class, list::removeLast);
+    list.close();
+  }
+
+  @Test
+  void closedListRejectsUse() {
+    OffHeapDoublyLinkedList list = new OffHeapDoublyLinkedList();
+    list.addLast(1);
+    list.close();
+    list.close();                              // closing twice has no effect
+    assertThrows(IllegalStateException.class, list::size);
+    assertThrows(IllegalStateException.class, list::isEmpty);
+    assertThrows(IllegalStateException.class, list::first);
+    assertThrows(IllegalStateException.class, list::last);
+    assertThrows(IllegalStateException.class, () -> list.addFirst(2));
+    assertThrows(IllegalStateException.class, () -> list.addLast(2));
+    assertThrows(IllegalStateException.class, list::removeFirst);
+    assertThrows(IllegalStateException.class, list::removeLast);
+    assertThrows(IllegalStateException.class, list::toString);
+  }
+}
@@ -0,0 +1,83 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RoundRobinDispatcherTest {
+
+  @Test
+  void smoothWeightedOrder() {
+    RoundRobinDispatcher<String> dispatcher = new RoundRobinDispatcher<>();
+    assertNull(dispatcher.next());
+    dispatcher.add("a", 5);
+    dispatcher.add("b", 1);
+    dispatcher.add("c", 1);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 7; i++)
+      sb.append(dispatcher.next());
+    assertEquals("aabacaa", sb.toString());
+    assertEquals("{a=5, b=1, c=1}", dispatcher.selectionCounts().toString());
+  }
+
+  @Test
+  void addUpdateAndRemove() {
+    RoundRobinDispatcher<String> dispatcher = new RoundRobinDispatcher<>();
+    dispatcher.add("b", 1);
+    dispatcher.add("c", 1);
+    assertFalse(dispatcher.add("b", 2));
+    assertTrue(dispatcher.add("x", 4));
+    assertTrue(dispatcher.add("y", 6));
+    assertEquals("(bx2, cx1, xx4, yx6)", dispatcher.toString());
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < 13 * 100; i++)
+      counts.merge(dispatcher.next(), 1, Integer::sum);
+    assertEquals(600, counts.get("y"));
+    assertEquals(100, counts.get("c"));
+    assertTrue(dispatcher.remove("x"));
+    assertFalse(dispatcher.remove("x"));
+    assertEquals(3, dispatcher.size());
+    assertThrows(IllegalArgumentException.class, () -> dispatcher.add("z", 0));
+  }
+
+  @Test
+  void heavyWeightsAreScheduledTurnByTurn() {
+    RoundRobinDispatcher<String> dispatcher = new RoundRobinDispatcher<>();
+    dispatcher.add("a", 1_000_003);
+    dispatcher.add("b", 999_983);
+    dispatcher.add("c", Integer.MAX_VALUE);
+    long total = 1_000_003L + 999_983 + Integer.MAX_VALUE;
+    assertTrue(total > RoundRobinDispatcher.MAX_CYCLE);
+    Map<String, Integer> counts = new HashMap<>();
+    int turns = 1_000_000;
+    for (int i = 0; i < turns; i++)
+      counts.merge(dispatcher.next(), 1, Integer::sum);
+    // smooth weighted round-robin keeps each count within one of its share
+    assertEquals(turns * 1_000_003.0 / total, counts.getOrDefault("a", 0), 1.0);
+    assertEquals(turns * 999_983.0 / total, counts.getOrDefault("b", 0), 1.0);
+  }
+
+  @Test
+  void nextDuringChanges() throws InterruptedException {
+    RoundRobinDispatcher<Integer> dispatcher = new RoundRobinDispatcher<>();
+    dispatcher.add(1, 1);
+    Thread writer = new Thread(() -> {
+      for (int i = 0; i < 2000; i++) {
+        dispatcher.add(i % 7 + 2, (i % 3 == 0) ? 1_000_003 : i % 3 + 1);
+        dispatcher.remove((i + 3) % 7 + 2);
+      }
+    });
+    writer.start();
+    for (int i = 0; i < 200000; i++)
+      assertNotNull(dispatcher.next());
+    writer.join();
+  }
+}
@@ -0,0 +1,324 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import linkedlists.SinglyLinkedList.SwapResult;
+
+class SinglyLinkedListTest {
+
+  @Test
+  void emptyList() {
+    SinglyLinkedList<String> list = new SinglyLinkedList<>();
+    assertTrue(list.isEmpty());
+    assertNull(list.first());
+    assertNull(list.last());
+    assertNull(list.removeFirst());
+    assertEquals("()", list.toString());
+  }
+
+  @Test
+  void matchesDequeUnderRandomOperations() {
+    Random random = new Random(1);
+    SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+    Deque<Integer> expected = new ArrayDeque<>();
+    for (int op = 0; op < 20000; op++) {
+      int v = random.nextInt(100);
+      switch (random.nextInt(3)) {
+        case 0: list.addFirst(v); expected.addFirst(v); break;
+        case 1: list.addLast(v); expected.addLast(v); break;
+        default: assertEquals(expected.pollFirst(), list.removeFirst());
+      }
+      assertEquals(expected.size(), list.size());
+      assertEquals(expected.peekFirst(), list.first());
+      assertEquals(expected.peekLast(), list.last());
+    }
+    List<Integer> seen = new ArrayList<>();
+    list.forEach(seen::add);
+    assertEquals(new ArrayList<>(expected), seen);
+  }
+
+  @Test
+  void equalsCloneAndHashCode() throws CloneNotSupportedException {
+    SinglyLinkedList<String> list = new SinglyLinkedList<>();
+    list.addLast("a");
+    list.addLast("b");
+    list.addLast("c");
+    SinglyLinkedList<String> copy = list.clone();
+    assertEquals(list, copy);
+    assertEquals(list.hashCode(), copy.hashCode());
+    copy.removeFirst();
+    assertNotEquals(list, copy);
+    assertEquals(3, list.size());
+  }
+
+  @Test
+  void equalsAcceptsNullElements() {
+    for (boolean cached : new boolean[] {false, true}) {
+      SinglyLinkedList<String> a = new SinglyLinkedList<>();
+      SinglyLinkedList<String> b = new SinglyLinkedList<>();
+      for (String s : new String[] {"x", null, "z"}) {
+        a.addLast(s);
+        b.addLast(s == null ? null : new String(s));
+      }
+      if (cached) {
+        a.enableHashCache();
+        b.enableHashCache();
+      }
+      assertEquals(a.hashCode(), b.hashCode());
+      assertEquals(a, b);
+      assertEquals(b, a);
+      b.removeFirst();
+      b.addFirst(null);
+      assertNotEquals(a, b);
+      assertNotEquals(b, a);
+    }
+  }
+
+  /** Returns the elements of the list, in order. */
+  static <E> List<E> contents(SinglyLinkedList<E> list) {
+    List<E> result = new ArrayList<>();
+    list.forEach(result::add);
+    return result;
+  }
+
+  @Test
+  void sortIsStableAndMatchesListSort() {
+    Random random = new Random(5);
+    Comparator<int[]> byKey = Comparator.comparingInt(x -> x[0]);
+    for (int n : new int[] {0, 1, 2, 3, 7, 8, 9, 100, 1025, 50000}) {
+      List<int[]> expected = new ArrayList<>();
+      SinglyLinkedList<int[]> list = new SinglyLinkedList<>();
+      for (int i = 0; i < n; i++) {
+        int[] e = {random.nextInt(Math.max(1, n / 4)), i};
+        expected.add(e);
+        list.addLast(e);
+      }
+      list.sort(byKey);
+      expected.sort(byKey);
+      List<int[]> sorted = contents(list);
+      for (int i = 0; i < n; i++)
+        assertSame(expected.get(i), sorted.get(i));
+      if (n > 0)
+        assertSame(expected.get(n - 1), list.last());
+      list.addLast(new int[] {-1});
+      assertEquals(-1, list.last()[0]);
+      assertEquals(n + 1, list.size());
+    }
+  }
+
+  @Test
+  void swapNodesOutcomes() {
+    for (boolean indexed : new boolean[] {false, true}) {
+      SinglyLinkedList<String> list = new SinglyLinkedList<>();
+      if (indexed) list.enableSwapIndex();
+      String a = "a", b = "b";
+      assertEquals(SwapResult.SAME_ELEMENT, list.swapNodes(a, a));
+      assertEquals(SwapResult.TOO_FEW_ELEMENTS, list.swapNodes(a, b));
+      list.addLast(a);
+      assertEquals(SwapResult.TOO_FEW_ELEMENTS, list.swapNodes(a, b));
+      for (String s : new String[] {"b", "c", "d"})
+        list.addLast(s);
+      assertEquals(SwapResult.NOT_FOUND, list.swapNodes("a", "x"));
+      assertEquals(SwapResult.NOT_FOUND, list.swapNodes("x", "d", true));
+      assertEquals(SwapResult.SWAPPED, list.swapNodes("a", "b"));            // head and next
+      assertEquals("(b, a, c, d)", list.toString());
+      assertEquals(SwapResult.SWAPPED, list.swapNodes("d", "c"));            // tail and previous
+      assertEquals("(b, a, d, c)", list.toString());
+      assertEquals("c", list.last());
+      assertEquals(SwapResult.SWAPPED, list.swapNodes("b", "c"));            // head and tail
+      assertEquals("(c, a, d, b)", list.toString());
+      assertEquals("c", list.first());
+      assertEquals("b", list.last());
+      assertEquals(SwapResult.SWAPPED, list.swapNodes("b", "a"));            // reversed order
+      assertEquals("(c, b, d, a)", list.toString());
+      assertEquals("a", list.last());
+      list.addLast("e");
+      assertEquals("(c, b, d, a, e)", list.toString());
+    }
+  }
+
+  @Test
+  void swapNodesByIdentityOrEquals() {
+    for (boolean indexed : new boolean[] {false, true}) {
+      SinglyLinkedList<String> list = new SinglyLinkedList<>();
+      String x = new String("x"), y = new String("y");
+      list.addLast(x);
+      list.addLast(y);
+      if (indexed) list.enableSwapIndex();
+      String xCopy = new String("x"), yCopy = new String("y");
+      assertEquals(SwapResult.NOT_FOUND, list.swapNodes(xCopy, y));
+      assertEquals(SwapResult.SAME_ELEMENT, list.swapNodes(x, xCopy, true));
+      assertEquals(SwapResult.SWAPPED, list.swapNodes(x, yCopy, true));
+      assertEquals("(y, x)", list.toString());
+      assertSame(y, list.first());
+      assertEquals(SwapResult.SWAPPED, list.swapNodes(x, y));
+      assertSame(x, list.first());
+      assertEquals(SwapResult.SAME_ELEMENT, list.swapNodes(null, null, true));
+      assertEquals(SwapResult.NOT_FOUND, list.swapNodes(null, x, true));
+    }
+  }
+
+  /** Random swaps between updates at both ends, with and without the index. */
+  @Test
+  void swapNodesMatchesModelWhileListChanges() {
+    Random random = new Random(9);
+    for (boolean indexed : new boolean[] {false, true}) {
+      for (boolean byEquals : new boolean[] {false, true}) {
+        SinglyLinkedList<String> list = new SinglyLinkedList<>();
+        if (indexed) assertTrue(list.enableSwapIndex());
+        List<String> model = new ArrayList<>();
+        for (int op = 0; op < 5000; op++) {
+          String v = "v" + op;
+          switch (random.nextInt(5)) {
+            case 0: list.addFirst(v); model.add(0, v); break;
+            case 1: list.addLast(v); model.add(v); break;
+            case 2:
+              assertEquals(model.isEmpty() ? null : model.remove(0), list.removeFirst());
+              break;
+            default: {
+              String e1 = pick(model, random), e2 = pick(model, random);
+              SwapResult expected;
+              if (e1 == e2) expected = SwapResult.SAME_ELEMENT;
+              else if (model.size() < 2) expected = SwapResult.TOO_FEW_ELEMENTS;
+              else if (!model.contains(e1) || !model.contains(e2)) expected = SwapResult.NOT_FOUND;
+              else expected = SwapResult.SWAPPED;
+              if (byEquals && e2 != null) e2 = new String(e2);       // equal but not identical
+              assertEquals(expected, list.swapNodes(e1, e2, byEquals));
+              if (expected == SwapResult.SWAPPED)
+                Collections.swap(model, model.indexOf(e1), model.indexOf(e2));
+            }
+          }
+          assertEquals(model.size(), list.size());
+          assertEquals(model.isEmpty() ? null : model.get(0), list.first());
+          assertEquals(model.isEmpty() ? null : model.get(model.size() - 1), list.last());
+        }
+        List<String> seen = new ArrayList<>();
+        list.forEach(seen::add);
+        assertEquals(model, seen);
+      }
+    }
+  }
+
+  /** Returns an element of the model, or occasionally one not in it. */
+  private static String pick(List<String> model, Random random) {
+    if (model.isEmpty() || random.nextInt(8) == 0) return "absent";
+    return model.get(random.nextInt(model.size()));
+  }
+
+  @Test
+  void sortKeepsHashCacheAndSwapIndexConsistent() {
+    SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+    for (int i = 50; i > 0; i--)
+      list.addLast(i);
+    list.enableHashCache();
+    list.enableSwapIndex();
+    list.hashCode();
+    list.sort(null);
+    SinglyLinkedList<Integer> copy = new SinglyLinkedList<>();
+    list.forEach(copy::addLast);
+    assertEquals(copy.hashCode(), list.hashCode());
+    assertEquals(SinglyLinkedList.SwapResult.SWAPPED, list.swapNodes(1, 50));
+    assertEquals(50, list.first());
+    assertEquals(1, list.last());
+  }
+
+  @Test
+  void failedSortKeepsEveryElement() {
+    SinglyLinkedList<String> list = new SinglyLinkedList<>();
+    for (String s : new String[] {"d", "c", null, "b", "a"})
+      list.addLast(s);
+    assertThrows(NullPointerException.class, () -> list.sort(null));
+    assertEquals(5, list.size());
+    List<String> after = contents(list);
+    assertEquals(5, after.size());
+    assertTrue(after.containsAll(List.of("a", "b", "c", "d")) && after.contains(null));
+    assertEquals(after.get(4), list.last());
+    list.addLast("e");
+    assertEquals(6, contents(list).size());
+    assertEquals("e", list.last());
+  }
+
+  @Test
+  void sortFailingAtEveryComparisonKeepsEveryElement() {
+    Random random = new Random(8);
+    for (int n : new int[] {2, 3, 10, 37, 200}) {
+      for (int failAt = 0; failAt < 3 * n; failAt += 1 + failAt / 4) {
+        List<Integer> original = new ArrayList<>();
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        for (int i = 0; i < n; i++) {
+          original.add(random.nextInt(n));
+          list.addLast(original.get(i));
+        }
+        int[] calls = {0};
+        int limit = failAt;
+        Comparator<Integer> failing = (a, b) -> {
+          if (calls[0]++ == limit) throw new IllegalStateException();
+          return Integer.compare(a, b);
+        };
+        try {
+          list.sort(failing);
+        } catch (IllegalStateException expected) {
+        }
+        List<Integer> after = contents(list);
+        assertEquals(n, list.size());
+        after.sort(null);
+        original.sort(null);
+        assertEquals(original, after);
+        list.addLast(-1);
+        assertEquals(n + 1, contents(list).size());
+      }
+    }
+  }
+
+  @Test
+  void writeToAndTruncatedToString() throws IOException {
+    SinglyLinkedList<String> list = new SinglyLinkedList<>();
+    assertEquals("()", list.toString(0));
+    StringBuilder sb = new StringBuilder();
+    list.writeTo(sb);
+    assertEquals("()", sb.toString());
+    for (String s : new String[] {"a", null, "c"})
+      list.addLast(s);
+    assertEquals("(a, null, c)", list.toString());
+    assertEquals("(...)", list.toString(0));
+    assertEquals("(a, ...)", list.toString(1));
+    assertEquals("(a, null, c)", list.toString(3));
+    assertEquals("(a, null, c)", list.toString(4));
+    sb.setLength(0);
+    list.writeTo(sb, 2);
+    assertEquals("(a, null, ...)", sb.toString());
+    assertThrows(IllegalArgumentException.class, () -> list.toString(-1));
+  }
+
+  @Test
+  void writeToPropagatesIOException() {
+    SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+    for (int i = 0; i < 5; i++)
+      list.addLast(i);
+    for (int appends = 0; appends < 11; appends++) {
+      FailingAppendable out = new FailingAppendable(appends);
+      assertThrows(IOException.class, () -> list.writeTo(out));
+      assertTrue("(0, 1, 2, 3, 4)".startsWith(out.toString()));
+    }
+    FailingAppendable out = new FailingAppendable(3);
+    assertThrows(IOException.class, () -> list.writeTo(out, 1));
+    assertEquals("(0, ", out.toString());
+    assertEquals(5, list.size());
+  }
+}
@@ -0,0 +1,85 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+  @Test
+  void timersExpireExactlyOnTheirDeadline() {
+    for (int wheelSize : new int[] {2, 4, 64}) {
+      Random random = new Random(wheelSize);
+      TimingWheel<Long> wheel = new TimingWheel<>(wheelSize);
+      List<TimingWheel.Timer<Long>> live = new ArrayList<>();
+      Set<TimingWheel.Timer<Long>> pending = new HashSet<>();
+      long[] last = {0};
+      for (int round = 0; round < 3000; round++) {
+        for (int i = random.nextInt(5); i > 0; i--) {
+          long delay = random.nextInt(4) == 0 ? random.nextInt(100000) : random.nextInt(50);
+          TimingWheel.Timer<Long> timer = wheel.schedule(wheel.now() + Math.max(delay, 1), delay);
+          live.add(timer);
+          pending.add(timer);
+        }
+        if (!live.isEmpty() && random.nextInt(3) == 0) {
+          TimingWheel.Timer<Long> timer = live.get(random.nextInt(live.size()));
+          assertEquals(pending.remove(timer), wheel.cancel(timer));
+        }
+        long ticks = random.nextInt(10) == 0 ? random.nextInt(5000) : random.nextInt(5);
+        long start = wheel.now();
+        wheel.advance(ticks, deadline -> {
+          assertEquals(wheel.now(), (long) deadline);
+          assertTrue(deadline >= last[0]);
+          last[0] = deadline;
+        });
+        assertEquals(start + ticks, wheel.now());
+        pending.removeIf(t -> !t.isPending());
+        for (TimingWheel.Timer<Long> timer : pending)
+          assertTrue(timer.getDeadline() > wheel.now());
+        assertEquals(pending.size(), wheel.size());
+        live.removeIf(t -> !t.isPending());
+      }
+    }
+  }
+
+  @Test
+  void cancelledTimerNeverFires() {
+    TimingWheel<String> wheel = new TimingWheel<>(8);
+    TimingWheel.Timer<String> timer = wheel.schedule("x", 10);
+    assertTrue(wheel.cancel(timer));
+    assertFalse(wheel.cancel(timer));
+    assertEquals(0, wheel.advance(100, task -> { throw new AssertionError(task); }));
+  }
+
+  @Test
+  void deadlineOverflowIsRejected() {
+    TimingWheel<String> wheel = new TimingWheel<>(8);
+    wheel.advance(5, task -> { });
+    assertThrows(IllegalArgumentException.class, () -> wheel.schedule("x", Long.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> wheel.schedule("x", Long.MAX_VALUE - 4));
+    assertThrows(IllegalArgumentException.class, () -> wheel.advance(Long.MAX_VALUE, task -> { }));
+    TimingWheel.Timer<String> far = wheel.schedule("far", Long.MAX_VALUE - 5);
+    assertEquals(Long.MAX_VALUE, far.getDeadline());
+    assertEquals(0, wheel.advance(1000, task -> { throw new AssertionError(task); }));
+    assertTrue(far.isPending());
+  }
+
+  @Test
+  void badArgumentsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(3));
+    TimingWheel<String> wheel = new TimingWheel<>(4);
+    assertThrows(IllegalArgumentException.class, () -> wheel.schedule("x", -1));
+    assertThrows(IllegalArgumentException.class, () -> wheel.advance(-1, task -> { }));
+    TimingWheel.Timer<String> foreign = new TimingWheel<String>(4).schedule("y", 1);
+    assertThrows(IllegalArgumentException.class, () -> wheel.cancel(foreign));
+  }
+}
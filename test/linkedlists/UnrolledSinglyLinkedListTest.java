@@ -0,0 +1,62 @@
+package linkedlists;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class UnrolledSinglyLinkedListTest {
+
+  @Test
+  void matchesSinglyLinkedList() throws CloneNotSupportedException {
+    Random random = new Random(3);
+    for (int round = 0; round < 500; round++) {
+      UnrolledSinglyLinkedList<Integer> unrolled = new UnrolledSinglyLinkedList<>(1 + random.nextInt(5));
+      SinglyLinkedList<Integer> singly = new SinglyLinkedList<>();
+      for (int op = 0; op < 100; op++) {
+        switch (random.nextInt(4)) {
+          case 0: unrolled.addFirst(op); singly.addFirst(op); break;
+          case 1: unrolled.addLast(op); singly.addLast(op); break;
+          case 2: assertEquals(singly.removeFirst(), unrolled.removeFirst()); break;
+          default:
+            UnrolledSinglyLinkedList<Integer> copy = unrolled.clone();
+            assertEquals(unrolled, copy);
+            assertEquals(unrolled.hashCode(), copy.hashCode());
+            copy.addLast(-1);
+            assertNotEquals(unrolled, copy);
+        }
+        assertEquals(singly.size(), unrolled.size());
+        assertEquals(singly.first(), unrolled.first());
+        assertEquals(singly.last(), unrolled.last());
+        assertEquals(singly.toString(), unrolled.toString());
+        assertEquals(singly.hashCode(), unrolled.hashCode());
+      }
+      List<Integer> expected = new ArrayList<>();
+      singly.forEach(expected::add);
+      List<Integer> iterated = new ArrayList<>();
+      for (Integer v : unrolled)
+        iterated.add(v);
+      List<Integer> visited = new ArrayList<>();
+      unrolled.forEach(visited::add);
+      assertEquals(expected, iterated);
+      assertEquals(expected, visited);
+    }
+  }
+
+  @Test
+  void nullElements() throws CloneNotSupportedException {
+    UnrolledSinglyLinkedList<String> unrolled = new UnrolledSinglyLinkedList<>(2);
+    SinglyLinkedList<String> singly = new SinglyLinkedList<>();
+    for (String s : new String[] {"a", null, "c", null}) {
+      unrolled.addLast(s);
+      singly.addLast(s);
+    }
+    assertEquals(singly.hashCode(), unrolled.hashCode());
+    assertEquals(unrolled, unrolled.clone());
+    assertEquals("(a, null, c, null)", unrolled.toString());
+  }
+}